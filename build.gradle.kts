@@ -41,6 +41,13 @@ subprojects {
 
     dependencies {
         compileOnlyApi(rootProject.libs.checker.qual)
+
+        testImplementation(rootProject.libs.junit.jupiter)
+        testRuntimeOnly(rootProject.libs.junit.platform.launcher)
+    }
+
+    tasks.withType<Test> {
+        useJUnitPlatform()
     }
 
     indra {
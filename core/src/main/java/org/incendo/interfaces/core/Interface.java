@@ -10,6 +10,8 @@ import org.incendo.interfaces.core.transform.TransformContext;
 import org.incendo.interfaces.core.view.InterfaceView;
 import org.incendo.interfaces.core.view.InterfaceViewer;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.List;
 
@@ -59,6 +61,44 @@ public interface Interface<T extends Pane, U extends InterfaceViewer> {
             @NonNull InterfaceArguments arguments
     );
 
+    /**
+     * Opens this interface to the viewer without blocking the calling thread.
+     * <p>
+     * The transforms of the view are applied off the calling thread, and the main thread is only used to
+     * show the view to the viewer. Interfaces that cannot open views asynchronously open the view on the
+     * calling thread, as they may have to be opened on the thread owning the viewer.
+     *
+     * @param viewer    the viewer
+     * @param arguments the interface's arguments
+     * @return a future completed with the view once it has been opened
+     * @see #openAsync(InterfaceViewer, InterfaceArguments, Executor)
+     */
+    default @NonNull CompletableFuture<? extends InterfaceView<T, U>> openAsync(
+            final @NonNull U viewer,
+            final @NonNull InterfaceArguments arguments
+    ) {
+        return this.openAsync(viewer, arguments, Runnable::run);
+    }
+
+    /**
+     * Opens this interface to the viewer on the given executor.
+     * <p>
+     * The view is constructed, and its transforms are applied, on the executor. Interfaces that open their
+     * views asynchronously may only use the executor to construct the view, and show it on the main thread.
+     *
+     * @param viewer    the viewer
+     * @param arguments the interface's arguments
+     * @param executor  the executor to open the view on
+     * @return a future completed with the view once it has been opened
+     */
+    default @NonNull CompletableFuture<? extends InterfaceView<T, U>> openAsync(
+            final @NonNull U viewer,
+            final @NonNull InterfaceArguments arguments,
+            final @NonNull Executor executor
+    ) {
+        return CompletableFuture.supplyAsync(() -> this.open(viewer, arguments), executor);
+    }
+
     /**
      * Opens an interface with a parent view.
      *
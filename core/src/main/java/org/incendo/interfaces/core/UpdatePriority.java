@@ -0,0 +1,24 @@
+package org.incendo.interfaces.core;
+
+/**
+ * The priority of the updates of an {@link UpdatingInterface}, deciding how its updates are degraded
+ * while the server is overloaded.
+ */
+public enum UpdatePriority {
+
+    /**
+     * Updates of interfaces the viewer interacts with, which should stay responsive under load.
+     */
+    INTERACTIVE,
+
+    /**
+     * Updates of interfaces that display information, which may be deferred under load.
+     */
+    NORMAL,
+
+    /**
+     * Updates that are purely cosmetic, such as animations, which may be paused under load.
+     */
+    COSMETIC
+
+}
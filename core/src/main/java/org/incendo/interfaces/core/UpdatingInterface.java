@@ -1,5 +1,7 @@
 package org.incendo.interfaces.core;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
+
 /**
  * Represents an interface that can update.
  */
@@ -19,4 +21,26 @@ public interface UpdatingInterface {
      */
     int updateDelay();
 
+    /**
+     * Returns the longest update delay to back off to while the interface is unchanged and idle.
+     * <p>
+     * If this is longer than the {@link #updateDelay() update delay}, the delay between updates grows
+     * while updates leave the interface unchanged and the viewer does not interact with it, and returns
+     * to the update delay on the first change or interaction.
+     *
+     * @return the maximum update delay
+     */
+    default int maxUpdateDelay() {
+        return this.updateDelay();
+    }
+
+    /**
+     * Returns the priority of the updates of the interface.
+     *
+     * @return the update priority
+     */
+    default @NonNull UpdatePriority updatePriority() {
+        return UpdatePriority.NORMAL;
+    }
+
 }
@@ -0,0 +1,366 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.util.Vector2;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A {@link GridPane} backed by a flat array of elements indexed by slot.
+ * <p>
+ * The grid occupies the slots {@code [offset, offset + width * height)} in row-major order, so that
+ * {@code slot = offset + y * width + x}. Panes may reserve additional slots outside of the grid, which
+ * are only accessible through {@link #element(int)} and {@link #element(int, Element)}.
+ * <p>
+ * The {@link Vector2} position of every grid slot is shared between all panes with the same dimensions,
+ * which means that slot to position lookups never allocate.
+ * <p>
+ * Panes derived from another pane remember which slots were written to, which allows
+ * {@link PaneDiff} to compare the two panes without visiting every slot.
+ *
+ * @param <T> the pane type
+ * @param <U> the element type
+ */
+public abstract class ArrayGridPane<T extends ArrayGridPane<T, U>, U extends Element> implements GridPane<T, U> {
+
+    private static final @NonNull Map<@NonNull Integer, @NonNull Vector2[]> POSITIONS = new ConcurrentHashMap<>();
+    private static final @NonNull AtomicLong IDS = new AtomicLong();
+
+    private final int width;
+    private final int height;
+    private final int offset;
+    private final @NonNull Vector2[] positions;
+    private final @NonNull Element[] elements;
+
+    private final long id = IDS.incrementAndGet();
+    private final long parent;
+    private final @Nullable BitSet changes;
+
+    /**
+     * Constructs {@code ArrayGridPane} where every slot is part of the grid.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     * @param fill   the element to fill every slot with
+     */
+    protected ArrayGridPane(
+            final int width,
+            final int height,
+            final @NonNull U fill
+    ) {
+        this(width, height, 0, width * height, fill);
+    }
+
+    /**
+     * Constructs {@code ArrayGridPane}.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     * @param offset the slot of the top left corner of the grid
+     * @param size   the total amount of slots
+     * @param fill   the element to fill every slot with
+     */
+    protected ArrayGridPane(
+            final int width,
+            final int height,
+            final int offset,
+            final int size,
+            final @NonNull U fill
+    ) {
+        if (width < 0 || height < 0 || offset < 0 || offset + width * height > size) {
+            throw new IllegalArgumentException("The grid does not fit inside of the pane.");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.offset = offset;
+        this.positions = positions(width, height);
+        this.elements = new Element[size];
+        this.parent = 0;
+        this.changes = null;
+
+        Arrays.fill(this.elements, fill);
+    }
+
+    /**
+     * Constructs {@code ArrayGridPane} with the same layout as the given pane.
+     * <p>
+     * The given array is used as-is, and must not be modified after it has been passed to this constructor.
+     * If {@code changes} is given, it must contain every slot in which the new pane holds a different
+     * element instance than the source pane.
+     *
+     * @param source   the pane to copy the layout from
+     * @param elements the elements
+     * @param changes  the slots that differ from the source pane, or {@code null} if unknown
+     */
+    protected ArrayGridPane(
+            final @NonNull ArrayGridPane<T, U> source,
+            final @NonNull Element @NonNull [] elements,
+            final @Nullable BitSet changes
+    ) {
+        if (elements.length != source.elements.length) {
+            throw new IllegalArgumentException("The element array does not match the size of the pane.");
+        }
+
+        this.width = source.width;
+        this.height = source.height;
+        this.offset = source.offset;
+        this.positions = source.positions;
+        this.elements = elements;
+        this.parent = changes == null ? 0 : source.id;
+        this.changes = changes;
+    }
+
+    private static @NonNull Vector2[] positions(final int width, final int height) {
+        return POSITIONS.computeIfAbsent((width << 16) | height, key -> {
+            final Vector2[] positions = new Vector2[width * height];
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    positions[y * width + x] = Vector2.at(x, y);
+                }
+            }
+
+            return positions;
+        });
+    }
+
+    /**
+     * Creates a new pane with the same layout as this pane, holding the given elements.
+     * <p>
+     * Implementations should delegate to {@link #ArrayGridPane(ArrayGridPane, Element[], BitSet)}.
+     *
+     * @param elements the elements, which are owned by the new pane
+     * @param changes  the slots that differ from this pane
+     * @return the new pane
+     */
+    protected abstract @NonNull T copy(@NonNull Element @NonNull [] elements, @NonNull BitSet changes);
+
+    @Override
+    public final int width() {
+        return this.width;
+    }
+
+    @Override
+    public final int height() {
+        return this.height;
+    }
+
+    /**
+     * Returns the total amount of slots in this pane.
+     *
+     * @return the amount of slots
+     */
+    public final int size() {
+        return this.elements.length;
+    }
+
+    /**
+     * Returns the slot of the given grid position.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the slot
+     * @throws IllegalArgumentException if the position is outside of the grid
+     */
+    public final int slot(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= this.width || y >= this.height) {
+            throw new IllegalArgumentException(
+                    String.format("Position (%d, %d) is outside of the bounds of this pane.", x, y)
+            );
+        }
+
+        return this.offset + y * this.width + x;
+    }
+
+    /**
+     * Returns the grid position of the given slot.
+     *
+     * @param slot the slot
+     * @return the position, or {@code null} if the slot is not part of the grid
+     */
+    public final @Nullable Vector2 position(final int slot) {
+        final int index = slot - this.offset;
+
+        if (index < 0 || index >= this.positions.length) {
+            return null;
+        }
+
+        return this.positions[index];
+    }
+
+    /**
+     * Returns the element in the given slot.
+     *
+     * @param slot the slot
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    public final @NonNull U element(final int slot) {
+        return (U) this.elements[slot];
+    }
+
+    /**
+     * Sets the element in the given slot.
+     * <p>
+     * This method returns an updated instance of this pane with the new element.
+     *
+     * @param slot    the slot
+     * @param element the element
+     * @return a new pane
+     */
+    public final @NonNull T element(final int slot, final @NonNull U element) {
+        if (slot < 0 || slot >= this.elements.length) {
+            throw new IllegalArgumentException(
+                    String.format("Slot %d is outside of the bounds of this pane.", slot)
+            );
+        }
+
+        final Element[] elements = this.elements.clone();
+        elements[slot] = element;
+
+        final BitSet changes = new BitSet(elements.length);
+        changes.set(slot);
+
+        return this.copy(elements, changes);
+    }
+
+    @Override
+    public final @NonNull T element(final @NonNull U element, final int x, final int y) {
+        return this.element(this.slot(x, y), element);
+    }
+
+    @Override
+    public final @NonNull U element(final int x, final int y) {
+        return this.element(this.slot(x, y));
+    }
+
+    @Override
+    public final @NonNull Collection<Element> elements() {
+        return Collections.unmodifiableList(Arrays.asList(this.elements));
+    }
+
+    /**
+     * Returns the identifier of this pane.
+     *
+     * @return the identifier
+     */
+    final long id() {
+        return this.id;
+    }
+
+    /**
+     * Returns the identifier of the pane this pane was derived from.
+     *
+     * @return the identifier, or {@code 0} if the lineage of this pane is unknown
+     */
+    final long parent() {
+        return this.parent;
+    }
+
+    /**
+     * Returns the slots that differ from the pane this pane was derived from.
+     *
+     * @return the changed slots, or {@code null} if the lineage of this pane is unknown
+     */
+    final @Nullable BitSet changes() {
+        return this.changes;
+    }
+
+    @Override
+    public final @NonNull T edit(final @NonNull Consumer<@NonNull MutableGridPane<U>> editor) {
+        return this.editSlots(editor::accept);
+    }
+
+    /**
+     * Applies a batch of changes to this pane, with direct access to the slots.
+     *
+     * @param editor the function making the changes
+     * @return a new pane, or this pane if nothing was changed
+     * @see #edit(Consumer)
+     */
+    @SuppressWarnings("unchecked")
+    public final @NonNull T editSlots(final @NonNull Consumer<@NonNull MutableArrayGridPane<U>> editor) {
+        final Editor mutable = new Editor();
+
+        try {
+            editor.accept(mutable);
+        } finally {
+            mutable.open = false;
+        }
+
+        if (mutable.changes.isEmpty()) {
+            return (T) this;
+        }
+
+        return this.copy(mutable.buffer, mutable.changes);
+    }
+
+    private final class Editor implements MutableArrayGridPane<U> {
+
+        private final Element[] buffer = ArrayGridPane.this.elements.clone();
+        private final BitSet changes = new BitSet(this.buffer.length);
+        private boolean open = true;
+
+        @Override
+        public int width() {
+            return ArrayGridPane.this.width;
+        }
+
+        @Override
+        public int height() {
+            return ArrayGridPane.this.height;
+        }
+
+        @Override
+        public int size() {
+            return this.buffer.length;
+        }
+
+        @Override
+        public @NonNull MutableArrayGridPane<U> element(final @NonNull U element, final int x, final int y) {
+            return this.element(ArrayGridPane.this.slot(x, y), element);
+        }
+
+        @Override
+        public @NonNull U element(final int x, final int y) {
+            return this.element(ArrayGridPane.this.slot(x, y));
+        }
+
+        @Override
+        public @NonNull MutableArrayGridPane<U> element(final int slot, final @NonNull U element) {
+            if (!this.open) {
+                throw new IllegalStateException("Cannot modify a pane after the edit has completed.");
+            }
+            if (slot < 0 || slot >= this.buffer.length) {
+                throw new IllegalArgumentException(
+                        String.format("Slot %d is outside of the bounds of this pane.", slot)
+                );
+            }
+
+            if (this.buffer[slot] != element) {
+                this.buffer[slot] = element;
+                this.changes.set(slot);
+            }
+
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull U element(final int slot) {
+            return (U) this.buffer[slot];
+        }
+
+    }
+
+}
@@ -3,6 +3,8 @@ package org.incendo.interfaces.core.pane;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.interfaces.core.element.Element;
 
+import java.util.function.Consumer;
+
 /**
  * A pane with a 2D grid.
  *
@@ -32,4 +34,46 @@ public interface GridPane<T extends Pane, U extends Element> extends Pane {
      */
     @NonNull U element(int x, int y);
 
+    /**
+     * Returns the width of the grid.
+     *
+     * @return the width
+     */
+    int width();
+
+    /**
+     * Returns the height of the grid.
+     *
+     * @return the height
+     */
+    int height();
+
+    /**
+     * Applies a batch of changes to this pane.
+     * <p>
+     * The changes are written to a private copy of this pane, which is frozen once the
+     * editor returns. This is considerably cheaper than calling {@link #element(Element, int, int)}
+     * once per position, which copies the pane every time.
+     * <p>
+     * The mutable pane must not be used after the editor has returned.
+     * <p>
+     * By default, the changes are buffered and written through {@link #element(Element, int, int)} once
+     * the editor has returned. Implementations such as {@link ArrayGridPane} override this method to edit
+     * a single copy.
+     *
+     * @param editor the function making the changes
+     * @return a new pane, or this pane if nothing was changed
+     */
+    default @NonNull T edit(final @NonNull Consumer<@NonNull MutableGridPane<U>> editor) {
+        final GridPaneEditor<T, U> mutable = new GridPaneEditor<>(this);
+
+        try {
+            editor.accept(mutable);
+        } finally {
+            mutable.close();
+        }
+
+        return mutable.apply();
+    }
+
 }
@@ -0,0 +1,79 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.util.Vector2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link MutableGridPane} used by the default implementation of {@link GridPane#edit(java.util.function.Consumer)}.
+ * <p>
+ * The changes are buffered, and written to the pane through {@link GridPane#element(Element, int, int)}
+ * once the edit has completed.
+ *
+ * @param <T> the pane type
+ * @param <U> the element type
+ */
+final class GridPaneEditor<T extends Pane, U extends Element> implements MutableGridPane<U> {
+
+    private final @NonNull GridPane<T, U> pane;
+    private final @NonNull Map<@NonNull Vector2, @NonNull U> changes = new LinkedHashMap<>();
+    private boolean open = true;
+
+    GridPaneEditor(final @NonNull GridPane<T, U> pane) {
+        this.pane = pane;
+    }
+
+    @Override
+    public int width() {
+        return this.pane.width();
+    }
+
+    @Override
+    public int height() {
+        return this.pane.height();
+    }
+
+    @Override
+    public @NonNull MutableGridPane<U> element(final @NonNull U element, final int x, final int y) {
+        if (!this.open) {
+            throw new IllegalStateException("Cannot modify a pane after the edit has completed.");
+        }
+
+        this.changes.put(Vector2.at(x, y), element);
+        return this;
+    }
+
+    @Override
+    public @NonNull U element(final int x, final int y) {
+        final U element = this.changes.get(Vector2.at(x, y));
+        return element == null ? this.pane.element(x, y) : element;
+    }
+
+    /**
+     * Closes the editor, after which the pane can no longer be modified.
+     */
+    void close() {
+        this.open = false;
+    }
+
+    /**
+     * Writes the buffered changes to a copy of the pane.
+     *
+     * @return the new pane, or the edited pane if nothing was changed
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull T apply() {
+        // Grid panes return panes of their own type from element(U, int, int).
+        T result = (T) this.pane;
+        for (final Map.Entry<Vector2, U> change : this.changes.entrySet()) {
+            final Vector2 position = change.getKey();
+            result = ((GridPane<T, U>) result).element(change.getValue(), position.x(), position.y());
+        }
+
+        return result;
+    }
+
+}
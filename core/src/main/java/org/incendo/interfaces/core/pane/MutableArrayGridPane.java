@@ -0,0 +1,39 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.element.Element;
+
+/**
+ * A mutable view of an {@link ArrayGridPane}, which additionally allows slots to be
+ * accessed directly.
+ *
+ * @param <U> the element type
+ * @see ArrayGridPane#editSlots(java.util.function.Consumer)
+ */
+public interface MutableArrayGridPane<U extends Element> extends MutableGridPane<U> {
+
+    /**
+     * Returns the total amount of slots in the pane.
+     *
+     * @return the amount of slots
+     */
+    int size();
+
+    /**
+     * Sets the element in the given slot.
+     *
+     * @param slot    the slot
+     * @param element the element
+     * @return this pane
+     */
+    @NonNull MutableArrayGridPane<U> element(int slot, @NonNull U element);
+
+    /**
+     * Returns the element in the given slot.
+     *
+     * @param slot the slot
+     * @return the element
+     */
+    @NonNull U element(int slot);
+
+}
@@ -0,0 +1,104 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.util.Vector2;
+
+/**
+ * A mutable view of a {@link GridPane}, used to make many changes to a pane at once.
+ * <p>
+ * Instances are only valid for the duration of {@link GridPane#edit(java.util.function.Consumer)}.
+ *
+ * @param <U> the element type
+ * @see GridPane#edit(java.util.function.Consumer)
+ */
+public interface MutableGridPane<U extends Element> {
+
+    /**
+     * Returns the width of the grid.
+     *
+     * @return the width
+     */
+    int width();
+
+    /**
+     * Returns the height of the grid.
+     *
+     * @return the height
+     */
+    int height();
+
+    /**
+     * Sets an element at the given position.
+     *
+     * @param element the element
+     * @param x       the x coordinate
+     * @param y       the y coordinate
+     * @return this pane
+     */
+    @NonNull MutableGridPane<U> element(@NonNull U element, int x, int y);
+
+    /**
+     * Returns the element at the given position.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the element
+     */
+    @NonNull U element(int x, int y);
+
+    /**
+     * Sets every position of the grid to the given element.
+     *
+     * @param element the element
+     * @return this pane
+     */
+    default @NonNull MutableGridPane<U> fill(final @NonNull U element) {
+        return this.fill(Vector2.at(0, 0), Vector2.at(this.width() - 1, this.height() - 1), element);
+    }
+
+    /**
+     * Sets every position in the given rectangle to the given element.
+     *
+     * @param min     the minimum (inclusive) corner of the rectangle
+     * @param max     the maximum (inclusive) corner of the rectangle
+     * @param element the element
+     * @return this pane
+     */
+    default @NonNull MutableGridPane<U> fill(
+            final @NonNull Vector2 min,
+            final @NonNull Vector2 max,
+            final @NonNull U element
+    ) {
+        for (int y = min.y(); y <= max.y(); y++) {
+            for (int x = min.x(); x <= max.x(); x++) {
+                this.element(element, x, y);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets every position in the given row to the given element.
+     *
+     * @param y       the y coordinate of the row
+     * @param element the element
+     * @return this pane
+     */
+    default @NonNull MutableGridPane<U> row(final int y, final @NonNull U element) {
+        return this.fill(Vector2.at(0, y), Vector2.at(this.width() - 1, y), element);
+    }
+
+    /**
+     * Sets every position in the given column to the given element.
+     *
+     * @param x       the x coordinate of the column
+     * @param element the element
+     * @return this pane
+     */
+    default @NonNull MutableGridPane<U> column(final int x, final @NonNull U element) {
+        return this.fill(Vector2.at(x, 0), Vector2.at(x, this.height() - 1), element);
+    }
+
+}
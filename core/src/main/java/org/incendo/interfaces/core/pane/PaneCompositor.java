@@ -0,0 +1,196 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.element.Element;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Merges stacked layers of {@link ArrayGridPane}s into a single pane.
+ * <p>
+ * Every slot shows the element of the highest priority layer that has a non-transparent element in
+ * that slot, or the element of the blank pane if there is no such layer. Layers with the same priority
+ * are stacked in the order they were first added.
+ * <p>
+ * The compositor remembers which layer is on top of every slot, so replacing a layer only
+ * re-resolves the slots that the layer covers, rather than merging every layer again.
+ *
+ * @param <T> the pane type
+ * @param <U> the element type
+ */
+public final class PaneCompositor<T extends ArrayGridPane<T, U>, U extends Element> implements PaneLayers<T> {
+
+    private final @NonNull T blank;
+    private final @NonNull Predicate<@NonNull U> transparent;
+
+    private final @NonNull Map<@NonNull Object, @NonNull Layer<T>> layersByKey = new HashMap<>();
+    private final @NonNull List<@NonNull Layer<T>> layers = new ArrayList<>();
+    private final @Nullable Layer<T> @NonNull [] top;
+    private final @NonNull BitSet dirty;
+
+    private @NonNull T pane;
+
+    /**
+     * Constructs {@code PaneCompositor}.
+     * <p>
+     * Layers should be derived from {@code blank}, which allows the compositor to find the slots
+     * covered by a layer without visiting every slot.
+     *
+     * @param blank       the pane shown underneath every layer
+     * @param transparent whether an element lets the layers below it show through
+     */
+    public PaneCompositor(
+            final @NonNull T blank,
+            final @NonNull Predicate<@NonNull U> transparent
+    ) {
+        // Generic arrays cannot be created, and the array only ever holds layers of this compositor.
+        @SuppressWarnings("unchecked")
+        final Layer<T>[] top = (Layer<T>[]) new Layer<?>[blank.size()];
+
+        this.blank = blank;
+        this.transparent = transparent;
+        this.top = top;
+        this.dirty = new BitSet(blank.size());
+        this.pane = blank;
+    }
+
+    /**
+     * Returns the pane shown underneath every layer.
+     *
+     * @return the blank pane
+     */
+    @Override
+    public @NonNull T blank() {
+        return this.blank;
+    }
+
+    /**
+     * Adds a layer, or replaces the pane of the layer with the given key.
+     * <p>
+     * The priority of a layer is fixed when it is first added.
+     *
+     * @param key      the key identifying the layer
+     * @param priority the priority of the layer, where higher priorities are stacked on top
+     * @param pane     the pane of the layer
+     */
+    @Override
+    public synchronized void layer(
+            final @NonNull Object key,
+            final int priority,
+            final @NonNull T pane
+    ) {
+        if (pane.size() != this.blank.size()) {
+            throw new IllegalArgumentException("The layer does not match the size of the blank pane.");
+        }
+
+        Layer<T> layer = this.layersByKey.get(key);
+        final T previous;
+
+        if (layer == null) {
+            layer = this.insert(key, priority, pane);
+            previous = this.blank;
+        } else {
+            previous = layer.pane;
+            layer.pane = pane;
+        }
+
+        final BitSet changed = PaneDiff.diff(previous, pane);
+
+        for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+            final Layer<T> current = this.top[slot];
+
+            if (current != null && current.rank > layer.rank) {
+                // The slot is covered by a higher layer.
+                continue;
+            }
+
+            if (!this.transparent.test(pane.element(slot))) {
+                this.top[slot] = layer;
+                this.dirty.set(slot);
+            } else if (current == layer) {
+                this.top[slot] = this.below(layer.rank, slot);
+                this.dirty.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the merged pane.
+     * <p>
+     * The pane is derived from the previously returned pane, and only differs from it in the slots
+     * affected by the layers changed since.
+     *
+     * @return the merged pane
+     */
+    @Override
+    public synchronized @NonNull T pane() {
+        if (this.dirty.isEmpty()) {
+            return this.pane;
+        }
+
+        this.pane = this.pane.editSlots(editor -> {
+            for (int slot = this.dirty.nextSetBit(0); slot >= 0; slot = this.dirty.nextSetBit(slot + 1)) {
+                final Layer<T> layer = this.top[slot];
+                editor.element(slot, (layer == null ? this.blank : layer.pane).element(slot));
+            }
+        });
+        this.dirty.clear();
+
+        return this.pane;
+    }
+
+    private @NonNull Layer<T> insert(
+            final @NonNull Object key,
+            final int priority,
+            final @NonNull T pane
+    ) {
+        final Layer<T> layer = new Layer<>(priority, pane);
+
+        // Insert after every layer with the same or a lower priority.
+        int index = this.layers.size();
+        while (index > 0 && this.layers.get(index - 1).priority > priority) {
+            index--;
+        }
+
+        this.layers.add(index, layer);
+        this.layersByKey.put(key, layer);
+
+        for (int rank = index; rank < this.layers.size(); rank++) {
+            this.layers.get(rank).rank = rank;
+        }
+
+        return layer;
+    }
+
+    private @Nullable Layer<T> below(final int rank, final int slot) {
+        for (int index = rank - 1; index >= 0; index--) {
+            final Layer<T> layer = this.layers.get(index);
+
+            if (!this.transparent.test(layer.pane.element(slot))) {
+                return layer;
+            }
+        }
+
+        return null;
+    }
+
+    private static final class Layer<T> {
+
+        private final int priority;
+        private int rank;
+        private @NonNull T pane;
+
+        private Layer(final int priority, final @NonNull T pane) {
+            this.priority = priority;
+            this.pane = pane;
+        }
+
+    }
+
+}
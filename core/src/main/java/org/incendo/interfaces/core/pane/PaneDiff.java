@@ -0,0 +1,109 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.element.Element;
+
+import java.util.BitSet;
+
+/**
+ * Computes which slots differ between two {@link ArrayGridPane}s.
+ * <p>
+ * When one pane was derived directly from the other, only the slots written to during that
+ * derivation are compared. Otherwise every slot is compared, skipping slots that hold the
+ * same element instance.
+ */
+public final class PaneDiff {
+
+    private PaneDiff() {
+    }
+
+    /**
+     * Returns the slots that differ between the given panes.
+     * <p>
+     * If {@code previous} is {@code null}, or the panes differ in size, every slot of {@code next} is reported.
+     *
+     * @param previous the previously applied pane
+     * @param next     the pane to apply
+     * @return the changed slots
+     */
+    public static @NonNull BitSet diff(
+            final @Nullable ArrayGridPane<?, ?> previous,
+            final @NonNull ArrayGridPane<?, ?> next
+    ) {
+        return diff(previous, next, 0, next.size());
+    }
+
+    /**
+     * Returns the slots in the range {@code [from, to)} that differ between the given panes.
+     * <p>
+     * If {@code previous} is {@code null}, or the panes differ in size, every slot in the range is reported.
+     *
+     * @param previous the previously applied pane
+     * @param next     the pane to apply
+     * @param from     the first slot to compare (inclusive)
+     * @param to       the last slot to compare (exclusive)
+     * @return the changed slots
+     */
+    public static @NonNull BitSet diff(
+            final @Nullable ArrayGridPane<?, ?> previous,
+            final @NonNull ArrayGridPane<?, ?> next,
+            final int from,
+            final int to
+    ) {
+        final BitSet changed = new BitSet(to);
+
+        if (previous == next) {
+            return changed;
+        }
+        if (previous == null || previous.size() != next.size()) {
+            changed.set(from, to);
+            return changed;
+        }
+
+        final BitSet candidates = candidates(previous, next);
+
+        if (candidates == null) {
+            for (int slot = from; slot < to; slot++) {
+                if (differs(previous.element(slot), next.element(slot))) {
+                    changed.set(slot);
+                }
+            }
+
+            return changed;
+        }
+
+        for (int slot = candidates.nextSetBit(from); slot >= 0 && slot < to; slot = candidates.nextSetBit(slot + 1)) {
+            if (differs(previous.element(slot), next.element(slot))) {
+                changed.set(slot);
+            }
+        }
+
+        return changed;
+    }
+
+    private static @Nullable BitSet candidates(
+            final @NonNull ArrayGridPane<?, ?> previous,
+            final @NonNull ArrayGridPane<?, ?> next
+    ) {
+        if (next.parent() == previous.id()) {
+            return next.changes();
+        }
+        if (previous.parent() == next.id()) {
+            return previous.changes();
+        }
+        if (next.parent() != 0 && next.parent() == previous.parent()) {
+            // Siblings only differ where either of them was written to.
+            final BitSet candidates = (BitSet) next.changes().clone();
+            candidates.or(previous.changes());
+            return candidates;
+        }
+
+        return null;
+    }
+
+    private static boolean differs(final @NonNull Element previous, final @NonNull Element next) {
+        return previous != next && !previous.equals(next);
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Stacks the panes produced by the transforms of a view into the pane that is shown.
+ *
+ * @param <T> the pane type
+ * @see PaneCompositor
+ */
+public interface PaneLayers<T extends Pane> {
+
+    /**
+     * Returns the pane transforms are applied to.
+     *
+     * @return the blank pane
+     */
+    @NonNull T blank();
+
+    /**
+     * Adds a layer, or replaces the pane of the layer with the given key.
+     *
+     * @param key      the key identifying the layer
+     * @param priority the priority of the layer, where higher priorities are stacked on top
+     * @param pane     the pane of the layer
+     */
+    void layer(@NonNull Object key, int priority, @NonNull T pane);
+
+    /**
+     * Returns the merged pane.
+     *
+     * @return the merged pane
+     */
+    @NonNull T pane();
+
+}
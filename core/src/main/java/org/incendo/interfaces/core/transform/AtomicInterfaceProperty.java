@@ -0,0 +1,53 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Base class of the primitive-specialized properties.
+ * <p>
+ * Implementations store their value in a field accessed through a {@link VarHandle}, and call
+ * {@link #changed(Object, Object)} after the value has actually changed.
+ *
+ * @param <T> the boxed value type
+ */
+abstract class AtomicInterfaceProperty<T> implements InterfaceProperty<T> {
+
+    private static final VarHandle VERSION;
+
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(AtomicInterfaceProperty.class, "version", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ListenerRegistry<T> updateListeners = new ListenerRegistry<>(this);
+    @SuppressWarnings("unused")
+    private volatile long version;
+
+    /**
+     * Increments the version and notifies the listeners of a change.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    protected final void changed(final T oldValue, final T newValue) {
+        VERSION.getAndAdd(this, 1L);
+        this.updateListeners.fire(oldValue, newValue);
+    }
+
+    @Override
+    public final long version() {
+        return this.version;
+    }
+
+    @Override
+    public final @NonNull <O> Subscription addListener(final O reference, final @NonNull TriConsumer<O, T, T> consumer) {
+        return this.updateListeners.add(reference, consumer);
+    }
+
+}
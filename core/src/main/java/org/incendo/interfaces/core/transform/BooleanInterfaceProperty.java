@@ -0,0 +1,98 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A {@code boolean} property that can be read and updated without boxing, and atomically.
+ * <p>
+ * Listeners are only notified if the value actually changes.
+ */
+public final class BooleanInterfaceProperty extends AtomicInterfaceProperty<Boolean> {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(BooleanInterfaceProperty.class, "value", boolean.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile boolean value;
+
+    BooleanInterfaceProperty(final boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the current value of the property
+     *
+     * @return current value
+     */
+    public boolean getBoolean() {
+        return this.value;
+    }
+
+    /**
+     * Sets the new value of the property
+     *
+     * @param value new value
+     */
+    public void setBoolean(final boolean value) {
+        final boolean oldValue = (boolean) VALUE.getAndSet(this, value);
+
+        if (oldValue != value) {
+            this.changed(oldValue, value);
+        }
+    }
+
+    /**
+     * Sets the value of the property to {@code update} if the current value is {@code expect}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return true if the value was updated, false if the current value was not the expected value
+     */
+    public boolean compareAndSet(final boolean expect, final boolean update) {
+        if (!VALUE.compareAndSet(this, expect, update)) {
+            return false;
+        }
+
+        if (expect != update) {
+            this.changed(expect, update);
+        }
+
+        return true;
+    }
+
+    /**
+     * Atomically inverts the value of the property.
+     *
+     * @return the new value
+     */
+    public boolean toggle() {
+        boolean oldValue;
+
+        do {
+            oldValue = this.value;
+        } while (!VALUE.compareAndSet(this, oldValue, !oldValue));
+
+        this.changed(oldValue, !oldValue);
+        return !oldValue;
+    }
+
+    @Override
+    public @NonNull Boolean get() {
+        return this.getBoolean();
+    }
+
+    @Override
+    public void set(final @NonNull Boolean value) {
+        this.setBoolean(value);
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A read-only property computed from other properties.
+ * <p>
+ * The value is only recomputed when the version of one of the source properties has changed. While the
+ * property has listeners, it is recomputed as soon as a source property is updated, and the listeners
+ * are only notified if the computed value is different from the value they were last notified of.
+ *
+ * @param <T> the value type
+ * @see InterfaceProperty#map(java.util.function.Function)
+ * @see InterfaceProperty#combine(InterfaceProperty, InterfaceProperty, java.util.function.BiFunction)
+ */
+final class DerivedInterfaceProperty<T> implements InterfaceProperty<T> {
+
+    private final ListenerRegistry<T> updateListeners = new ListenerRegistry<>(this);
+    private final InterfaceProperty<?>[] sources;
+    private final Supplier<T> function;
+
+    private long[] sourceVersions;
+    private T value;
+    private volatile long version;
+    private T notifiedValue;
+    private long notifiedVersion;
+
+    DerivedInterfaceProperty(
+            final @NonNull InterfaceProperty<?> @NonNull [] sources,
+            final @NonNull Supplier<T> function
+    ) {
+        this.sources = sources;
+        this.function = function;
+
+        for (final InterfaceProperty<?> source : sources) {
+            source.addListener(this, (reference, oldValue, newValue) -> reference.sourceChanged());
+        }
+    }
+
+    @Override
+    public T get() {
+        this.refresh();
+
+        synchronized (this) {
+            return this.value;
+        }
+    }
+
+    @Override
+    public long version() {
+        this.refresh();
+        return this.version;
+    }
+
+    @Override
+    public void set(final T value) {
+        throw new UnsupportedOperationException("Cannot update a derived interface property");
+    }
+
+    @Override
+    public @NonNull <O> Subscription addListener(final O reference, final @NonNull TriConsumer<O, T, T> consumer) {
+        // Compute the value, so that the next source update can be compared against it. Changes made while
+        // nobody was listening have not been notified, so the first listener starts from the current value.
+        synchronized (this) {
+            this.refreshLocked();
+            if (this.updateListeners.isEmpty()) {
+                this.markNotified(this.value);
+            }
+        }
+        return this.updateListeners.add(reference, consumer);
+    }
+
+    private void sourceChanged() {
+        // Nobody is listening, so the value can be computed whenever it is next requested.
+        if (this.updateListeners.isEmpty()) {
+            return;
+        }
+
+        final T oldValue;
+        final T newValue;
+
+        synchronized (this) {
+            this.refreshLocked();
+
+            // The value may have been recomputed by a read since the last notification, so the listeners
+            // are compared against the value they were last notified of rather than the previous value.
+            if (this.notifiedVersion == this.version) {
+                return;
+            }
+
+            oldValue = this.notifiedValue;
+            newValue = this.value;
+            this.markNotified(newValue);
+
+            if (Objects.equals(oldValue, newValue)) {
+                return;
+            }
+        }
+
+        this.updateListeners.fire(oldValue, newValue);
+    }
+
+    private synchronized void refresh() {
+        this.refreshLocked();
+    }
+
+    /**
+     * Recomputes the value if any of the source properties has been updated.
+     */
+    private void refreshLocked() {
+        final long[] versions = new long[this.sources.length];
+
+        // The versions are read before the values, so that a concurrent update is never missed.
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = this.sources[i].version();
+        }
+
+        if (this.sourceVersions != null && Arrays.equals(versions, this.sourceVersions)) {
+            return;
+        }
+
+        final boolean initial = this.sourceVersions == null;
+        final T newValue = this.function.get();
+
+        this.sourceVersions = versions;
+
+        if (initial) {
+            this.value = newValue;
+            this.markNotified(newValue);
+            return;
+        }
+        if (Objects.equals(this.value, newValue)) {
+            return;
+        }
+
+        this.value = newValue;
+        this.version++;
+    }
+
+    /**
+     * Records the current value as the one the listeners have seen.
+     *
+     * @param value the current value
+     */
+    private void markNotified(final T value) {
+        this.notifiedValue = value;
+        this.notifiedVersion = this.version;
+    }
+
+}
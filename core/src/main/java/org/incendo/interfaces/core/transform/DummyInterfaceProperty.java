@@ -16,12 +16,18 @@ public final class DummyInterfaceProperty implements InterfaceProperty<Object> {
         return this.object;
     }
 
+    @Override
+    public long version() {
+        return 0;
+    }
+
     @Override
     public void set(final Object value) {
         throw new UnsupportedOperationException("Cannot update a dummy interface property");
     }
 
     @Override
-    public <O> void addListener(final O reference, @NonNull final TriConsumer<O, Object, Object> consumer) {
+    public @NonNull <O> Subscription addListener(final O reference, @NonNull final TriConsumer<O, Object, Object> consumer) {
+        return Subscription.empty();
     }
 }
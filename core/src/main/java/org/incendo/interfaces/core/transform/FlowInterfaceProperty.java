@@ -0,0 +1,269 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A property bound to a {@link Flow.Publisher}.
+ * <p>
+ * The property subscribes to the publisher when the first listener is added, and cancels the subscription
+ * once no listeners remain. At most {@code window} values are requested from the publisher at a time.
+ * <p>
+ * Values received in bursts are conflated: only the latest value is kept, and the listeners are notified
+ * on the dispatcher at most once per dispatched task. When the dispatcher runs its tasks on the next server
+ * tick, this limits the listeners, and the views they update, to a single update per tick.
+ * <p>
+ * Once the publisher has completed or failed, the property keeps its last value and is not subscribed to
+ * the publisher again. The failure of a publisher is logged, and exposed through {@link #error()}.
+ *
+ * @param <T> the value type
+ * @see InterfaceProperty#ofPublisher(Flow.Publisher, Object, Executor)
+ */
+public final class FlowInterfaceProperty<T> implements InterfaceProperty<T> {
+
+    /**
+     * The amount of values requested from the publisher at a time, unless otherwise specified.
+     */
+    public static final int DEFAULT_WINDOW = 16;
+
+    private static final Object EMPTY = new Object();
+    private static final Logger LOGGER = Logger.getLogger(FlowInterfaceProperty.class.getName());
+
+    private final ListenerRegistry<T> updateListeners = new ListenerRegistry<>(this);
+    private final AtomicReference<Object> pending = new AtomicReference<>(EMPTY);
+    private final AtomicLong version = new AtomicLong();
+    private final Flow.Publisher<? extends T> publisher;
+    private final Executor dispatcher;
+    private final int window;
+
+    private volatile T value;
+    private @Nullable Subscriber subscriber;
+    private boolean terminated;
+    private volatile @Nullable Throwable error;
+
+    FlowInterfaceProperty(
+            final Flow.@NonNull Publisher<? extends T> publisher,
+            final T value,
+            final @NonNull Executor dispatcher,
+            final int window
+    ) {
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                    String.format("The request window must be positive, got %d.", window)
+            );
+        }
+
+        this.publisher = publisher;
+        this.value = value;
+        this.dispatcher = dispatcher;
+        this.window = window;
+    }
+
+    @Override
+    public T get() {
+        return this.value;
+    }
+
+    @Override
+    public long version() {
+        return this.version.get();
+    }
+
+    /**
+     * Sets the value of the property.
+     * <p>
+     * The value is replaced by the next value received from the publisher.
+     *
+     * @param value new value
+     */
+    @Override
+    public void set(final T value) {
+        final T oldValue = this.value;
+        this.value = value;
+        this.version.incrementAndGet();
+
+        this.updateListeners.fire(oldValue, value);
+    }
+
+    @Override
+    public @NonNull <O> Subscription addListener(final O reference, final @NonNull TriConsumer<O, T, T> consumer) {
+        final Subscription subscription = this.updateListeners.add(reference, consumer);
+        this.attach();
+
+        return () -> {
+            subscription.close();
+            this.detachIfUnused();
+        };
+    }
+
+    /**
+     * Returns whether the property is currently subscribed to the publisher.
+     *
+     * @return true if the property is subscribed, false if not
+     */
+    public synchronized boolean subscribed() {
+        return this.subscriber != null;
+    }
+
+    /**
+     * Returns whether the publisher has completed or failed, after which the property is no longer updated
+     * by the publisher.
+     *
+     * @return true if the publisher has terminated, false if not
+     */
+    public synchronized boolean terminated() {
+        return this.terminated;
+    }
+
+    /**
+     * Returns the error the publisher has failed with.
+     *
+     * @return the error, or {@code null} if the publisher has not failed
+     */
+    public @Nullable Throwable error() {
+        return this.error;
+    }
+
+    private synchronized void attach() {
+        if (this.subscriber != null || this.terminated) {
+            return;
+        }
+
+        final Subscriber subscriber = new Subscriber();
+        this.subscriber = subscriber;
+        this.publisher.subscribe(subscriber);
+    }
+
+    private void detachIfUnused() {
+        final Subscriber subscriber;
+
+        synchronized (this) {
+            if (this.subscriber == null || !this.updateListeners.isEmpty()) {
+                return;
+            }
+
+            subscriber = this.subscriber;
+            this.subscriber = null;
+        }
+
+        subscriber.cancel();
+    }
+
+    private synchronized boolean terminate(final @NonNull Subscriber subscriber) {
+        if (this.subscriber != subscriber) {
+            return false;
+        }
+
+        this.subscriber = null;
+        this.terminated = true;
+        return true;
+    }
+
+    private synchronized boolean active(final @NonNull Subscriber subscriber) {
+        return this.subscriber == subscriber;
+    }
+
+    private void receive(final T item) {
+        // Only the first value of a burst schedules a dispatch, later values replace it.
+        if (this.pending.getAndSet(item) == EMPTY) {
+            this.dispatcher.execute(this::dispatch);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch() {
+        final Object item = this.pending.getAndSet(EMPTY);
+
+        if (item != EMPTY) {
+            this.set((T) item);
+        }
+
+        // Listeners may have been garbage collected since the last update.
+        this.detachIfUnused();
+    }
+
+    private final class Subscriber implements Flow.Subscriber<T> {
+
+        private Flow.@Nullable Subscription subscription;
+        private boolean cancelled;
+        private int received;
+
+        @Override
+        public void onSubscribe(final Flow.@NonNull Subscription subscription) {
+            synchronized (this) {
+                if (this.subscription != null || this.cancelled) {
+                    subscription.cancel();
+                    return;
+                }
+
+                this.subscription = subscription;
+            }
+
+            subscription.request(FlowInterfaceProperty.this.window);
+        }
+
+        @Override
+        public void onNext(final T item) {
+            if (!FlowInterfaceProperty.this.active(this)) {
+                return;
+            }
+
+            FlowInterfaceProperty.this.receive(item);
+
+            // Values are conflated as soon as they arrive, so demand is replenished once half of the
+            // window has been consumed, rather than after every value.
+            final Flow.Subscription subscription;
+            final int request;
+
+            synchronized (this) {
+                this.received++;
+
+                if (this.subscription == null || this.received < (FlowInterfaceProperty.this.window + 1) / 2) {
+                    return;
+                }
+
+                subscription = this.subscription;
+                request = this.received;
+                this.received = 0;
+            }
+
+            subscription.request(request);
+        }
+
+        @Override
+        public void onError(final @NonNull Throwable throwable) {
+            // The property keeps its last value.
+            if (FlowInterfaceProperty.this.terminate(this)) {
+                FlowInterfaceProperty.this.error = throwable;
+                LOGGER.log(Level.WARNING, "The publisher of a property has failed, the property is no longer updated", throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            FlowInterfaceProperty.this.terminate(this);
+        }
+
+        private void cancel() {
+            final Flow.Subscription subscription;
+
+            synchronized (this) {
+                this.cancelled = true;
+                subscription = this.subscription;
+            }
+
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+    }
+
+}
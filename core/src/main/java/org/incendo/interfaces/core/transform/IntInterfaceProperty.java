@@ -0,0 +1,107 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An {@code int} property that can be read and updated without boxing, and atomically.
+ * <p>
+ * Listeners are only notified if the value actually changes.
+ */
+public final class IntInterfaceProperty extends AtomicInterfaceProperty<Integer> {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(IntInterfaceProperty.class, "value", int.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile int value;
+
+    IntInterfaceProperty(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the current value of the property
+     *
+     * @return current value
+     */
+    public int getInt() {
+        return this.value;
+    }
+
+    /**
+     * Sets the new value of the property
+     *
+     * @param value new value
+     */
+    public void setInt(final int value) {
+        final int oldValue = (int) VALUE.getAndSet(this, value);
+
+        if (oldValue != value) {
+            this.changed(oldValue, value);
+        }
+    }
+
+    /**
+     * Sets the value of the property to {@code update} if the current value is {@code expect}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return true if the value was updated, false if the current value was not the expected value
+     */
+    public boolean compareAndSet(final int expect, final int update) {
+        if (!VALUE.compareAndSet(this, expect, update)) {
+            return false;
+        }
+
+        if (expect != update) {
+            this.changed(expect, update);
+        }
+
+        return true;
+    }
+
+    /**
+     * Atomically updates the value of the property with the given function.
+     * <p>
+     * The function may be invoked more than once if the property is updated concurrently.
+     *
+     * @param function the function computing the new value
+     * @return the new value
+     */
+    public int updateAndGet(final @NonNull IntUnaryOperator function) {
+        int oldValue;
+        int newValue;
+
+        do {
+            oldValue = this.value;
+            newValue = function.applyAsInt(oldValue);
+        } while (!VALUE.compareAndSet(this, oldValue, newValue));
+
+        if (oldValue != newValue) {
+            this.changed(oldValue, newValue);
+        }
+
+        return newValue;
+    }
+
+    @Override
+    public @NonNull Integer get() {
+        return this.getInt();
+    }
+
+    @Override
+    public void set(final @NonNull Integer value) {
+        this.setInt(value);
+    }
+
+}
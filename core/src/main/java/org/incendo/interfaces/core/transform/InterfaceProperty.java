@@ -2,6 +2,12 @@ package org.incendo.interfaces.core.transform;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 public interface InterfaceProperty<T> {
 
     /**
@@ -15,6 +21,89 @@ public interface InterfaceProperty<T> {
         return new InterfacePropertyImpl<>(value);
     }
 
+    /**
+     * Returns a new {@code int} interface property with the given initial value
+     *
+     * @param value initial value
+     * @return the property
+     */
+    static @NonNull IntInterfaceProperty ofInt(final int value) {
+        return new IntInterfaceProperty(value);
+    }
+
+    /**
+     * Returns a new {@code long} interface property with the given initial value
+     *
+     * @param value initial value
+     * @return the property
+     */
+    static @NonNull LongInterfaceProperty ofLong(final long value) {
+        return new LongInterfaceProperty(value);
+    }
+
+    /**
+     * Returns a new {@code boolean} interface property with the given initial value
+     *
+     * @param value initial value
+     * @return the property
+     */
+    static @NonNull BooleanInterfaceProperty ofBoolean(final boolean value) {
+        return new BooleanInterfaceProperty(value);
+    }
+
+    /**
+     * Returns a new list interface property with the given initial elements
+     *
+     * @param elements initial elements
+     * @param <S>      type of the elements
+     * @return the property
+     */
+    static <S> @NonNull ObservableListProperty<S> ofList(final @NonNull Collection<? extends S> elements) {
+        return new ObservableListProperty<>(elements);
+    }
+
+    /**
+     * Returns a new interface property bound to the given publisher
+     * <p>
+     * Updates received in bursts are conflated to the latest value, which is dispatched on {@code dispatcher}.
+     *
+     * @param publisher  the publisher of the values
+     * @param value      initial value
+     * @param dispatcher the executor notifying the listeners of the property
+     * @param <T>        type of the value
+     * @return the property
+     * @see FlowInterfaceProperty
+     */
+    static <T> @NonNull FlowInterfaceProperty<T> ofPublisher(
+            final Flow.@NonNull Publisher<? extends T> publisher,
+            final T value,
+            final @NonNull Executor dispatcher
+    ) {
+        return ofPublisher(publisher, value, dispatcher, FlowInterfaceProperty.DEFAULT_WINDOW);
+    }
+
+    /**
+     * Returns a new interface property bound to the given publisher
+     * <p>
+     * Updates received in bursts are conflated to the latest value, which is dispatched on {@code dispatcher}.
+     *
+     * @param publisher  the publisher of the values
+     * @param value      initial value
+     * @param dispatcher the executor notifying the listeners of the property
+     * @param window     the maximum amount of values requested from the publisher at a time
+     * @param <T>        type of the value
+     * @return the property
+     * @see FlowInterfaceProperty
+     */
+    static <T> @NonNull FlowInterfaceProperty<T> ofPublisher(
+            final Flow.@NonNull Publisher<? extends T> publisher,
+            final T value,
+            final @NonNull Executor dispatcher,
+            final int window
+    ) {
+        return new FlowInterfaceProperty<>(publisher, value, dispatcher, window);
+    }
+
     /**
      * Returns an interface property that never updates.
      *
@@ -24,6 +113,66 @@ public interface InterfaceProperty<T> {
         return DummyInterfaceProperty.INSTANCE;
     }
 
+    /**
+     * Returns a read-only property computed from two other properties.
+     * <p>
+     * The value is only recomputed when either property has been updated, and listeners are only
+     * notified when the computed value has changed.
+     *
+     * @param first    the first property
+     * @param second   the second property
+     * @param function the function computing the value
+     * @param <A>      the value type of the first property
+     * @param <B>      the value type of the second property
+     * @param <R>      the value type of the computed property
+     * @return the property
+     */
+    static <A, B, R> @NonNull InterfaceProperty<R> combine(
+            final @NonNull InterfaceProperty<A> first,
+            final @NonNull InterfaceProperty<B> second,
+            final @NonNull BiFunction<? super A, ? super B, ? extends R> function
+    ) {
+        return new DerivedInterfaceProperty<>(
+                new InterfaceProperty<?>[]{first, second},
+                () -> function.apply(first.get(), second.get())
+        );
+    }
+
+    /**
+     * Runs the given action in a {@link PropertyBatch}.
+     * <p>
+     * The listeners of the properties updated by the action are notified once the action has completed,
+     * so that views depending on several of them are only updated once.
+     *
+     * @param action the action updating the properties
+     */
+    static void transaction(final @NonNull Runnable action) {
+        final PropertyBatch batch = PropertyBatch.begin();
+
+        try {
+            action.run();
+        } finally {
+            batch.close();
+        }
+    }
+
+    /**
+     * Returns a read-only property computed from this property.
+     * <p>
+     * The value is only recomputed when this property has been updated, and listeners are only
+     * notified when the computed value has changed.
+     *
+     * @param function the function computing the value
+     * @param <R>      the value type of the computed property
+     * @return the property
+     */
+    default <R> @NonNull InterfaceProperty<R> map(final @NonNull Function<? super T, ? extends R> function) {
+        return new DerivedInterfaceProperty<>(
+                new InterfaceProperty<?>[]{this},
+                () -> function.apply(this.get())
+        );
+    }
+
     /**
      * Returns the current value of the property
      *
@@ -31,6 +180,23 @@ public interface InterfaceProperty<T> {
      */
     T get();
 
+    /**
+     * Returns the version of the property.
+     * <p>
+     * The version is incremented every time the property is updated, and can be compared
+     * to a previously returned version to check whether the property has been updated since.
+     * <p>
+     * By default, every call returns a new version, so the property always appears to have been
+     * updated, and the transforms depending on it are re-applied on every update of the interface.
+     * Implementations must return a real version for those transforms to be skipped while the
+     * property is unchanged.
+     *
+     * @return the version
+     */
+    default long version() {
+        return PropertyVersions.unversioned();
+    }
+
     /**
      * Sets the new value of the property
      *
@@ -45,6 +211,7 @@ public interface InterfaceProperty<T> {
      * @param reference an object to reference, if this object is garbage collected
      *                  so is this listener
      * @param consumer the consumer
+     * @return a subscription that removes the listener when closed
      */
-    <O> void addListener(O reference, @NonNull TriConsumer<O, T, T> consumer);
+    @NonNull <O> Subscription addListener(O reference, @NonNull TriConsumer<O, T, T> consumer);
 }
@@ -2,16 +2,14 @@ package org.incendo.interfaces.core.transform;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.lang.ref.WeakReference;
-import java.util.Collection;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 class InterfacePropertyImpl<T> implements InterfaceProperty<T> {
 
-    private final Collection<Pair<WeakReference<Object>, TriConsumer<Object, T, T>>> updateListeners =
-            ConcurrentHashMap.newKeySet();
-    private T value;
+    private final ListenerRegistry<T> updateListeners = new ListenerRegistry<>(this);
+    private final AtomicLong version = new AtomicLong();
+    private volatile T value;
 
     InterfacePropertyImpl(final T value) {
         this.value = value;
@@ -22,33 +20,23 @@ class InterfacePropertyImpl<T> implements InterfaceProperty<T> {
         return this.value;
     }
 
+    @Override
+    public long version() {
+        return this.version.get();
+    }
+
     @Override
     public void set(final T value) {
         T oldValue = this.value;
         this.value = value;
+        this.version.incrementAndGet();
 
-        var iterator = this.updateListeners.iterator();
-        while (iterator.hasNext()) {
-            // Check if the reference has been garbage collected or not
-            final Pair<WeakReference<Object>, TriConsumer<Object, T, T>> pair = iterator.next();
-            var object = pair.getFirst().get();
-            if (object == null) {
-                iterator.remove();
-                continue;
-            }
-            pair.getSecond().accept(object, oldValue, this.value);
-        }
+        this.updateListeners.fire(oldValue, value);
     }
 
     @Override
-    public <O> void addListener(final O reference, @NonNull final TriConsumer<O, T, T> consumer) {
-        this.updateListeners.removeIf(f -> f.getFirst().get() == null);
-        this.updateListeners.add(
-                new Pair<>(
-                        new WeakReference<>(reference),
-                        (TriConsumer<Object, T, T>) consumer
-                )
-        );
+    public @NonNull <O> Subscription addListener(final O reference, @NonNull final TriConsumer<O, T, T> consumer) {
+        return this.updateListeners.add(reference, consumer);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A change made to an {@link ObservableListProperty}.
+ * <p>
+ * Every change is described as a splice: {@link #removed()} elements starting at {@link #index()} were
+ * replaced by {@link #added()} new elements.
+ */
+public final class ListDelta {
+
+    private final int index;
+    private final int removed;
+    private final int added;
+
+    /**
+     * Constructs {@code ListDelta}.
+     *
+     * @param index   the index of the first changed element
+     * @param removed the amount of elements removed
+     * @param added   the amount of elements added
+     */
+    public ListDelta(final int index, final int removed, final int added) {
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the index of the first changed element.
+     *
+     * @return the index
+     */
+    public int index() {
+        return this.index;
+    }
+
+    /**
+     * Returns the amount of elements removed.
+     *
+     * @return the amount of removed elements
+     */
+    public int removed() {
+        return this.removed;
+    }
+
+    /**
+     * Returns the amount of elements added.
+     *
+     * @return the amount of added elements
+     */
+    public int added() {
+        return this.added;
+    }
+
+    /**
+     * Returns the type of this change.
+     *
+     * @return the type
+     */
+    public @NonNull Type type() {
+        if (this.removed == 0) {
+            return Type.ADD;
+        }
+        if (this.added == 0) {
+            return Type.REMOVE;
+        }
+        return Type.REPLACE;
+    }
+
+    /**
+     * Returns the index of the first element whose position or value may have changed.
+     * <p>
+     * Elements before this index are unaffected by the change. Replacing elements only affects the
+     * replaced range, while adding or removing elements shifts every following element.
+     *
+     * @return the index
+     */
+    public int affectedFrom() {
+        return this.index;
+    }
+
+    /**
+     * Returns the index after the last element whose position or value may have changed.
+     *
+     * @return the index (exclusive), or {@link Integer#MAX_VALUE} if every following element has moved
+     */
+    public int affectedTo() {
+        if (this.removed == this.added) {
+            return this.index + this.added;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * The type of a change.
+     */
+    public enum Type {
+        /** Elements were inserted. */
+        ADD,
+        /** Elements were removed. */
+        REMOVE,
+        /** Elements were replaced by other elements. */
+        REPLACE
+    }
+
+}
@@ -0,0 +1,206 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * The update listeners of a property.
+ * <p>
+ * Listeners are stored in a copy-on-write array, so notifying them never locks or allocates.
+ * Listeners whose reference has been garbage collected are removed the next time the registry is used.
+ * <p>
+ * Updates made while a {@link PropertyBatch} is open are deferred until the batch is closed.
+ *
+ * @param <T> the value type
+ */
+final class ListenerRegistry<T> {
+
+    private final InterfaceProperty<?> property;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private volatile Listener[] listeners = this.newListeners(0);
+
+    /**
+     * Constructs {@code ListenerRegistry}.
+     *
+     * @param property the property owning the listeners
+     */
+    ListenerRegistry(final @NonNull InterfaceProperty<?> property) {
+        this.property = property;
+    }
+
+    /**
+     * Adds a listener.
+     *
+     * @param reference the object passed to the listener, which the listener does not keep alive
+     * @param consumer  the listener
+     * @param <O>       the reference type
+     * @return the subscription
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <O> @NonNull Subscription add(final O reference, final @NonNull TriConsumer<O, T, T> consumer) {
+        this.expungeLocked();
+
+        final Listener listener = new Listener(reference, (TriConsumer<Object, T, T>) consumer);
+        final Listener[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        this.listeners = listeners;
+
+        return listener;
+    }
+
+    /**
+     * Invokes every listener, or defers the invocation if a batch is open on the current thread.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    void fire(final T oldValue, final T newValue) {
+        final PropertyBatch batch = PropertyBatch.current();
+
+        if (batch != null) {
+            batch.defer(this, oldValue, newValue);
+            return;
+        }
+
+        this.fireImmediately(oldValue, newValue);
+    }
+
+    /**
+     * Invokes every listener, even if a batch is open on the current thread.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    void fireImmediately(final T oldValue, final T newValue) {
+        if (this.queue.poll() != null) {
+            this.expunge();
+        }
+
+        for (final Listener listener : this.listeners) {
+            // Check if the reference has been garbage collected or not
+            final Object reference = listener.get();
+            if (reference != null) {
+                listener.consumer.accept(reference, oldValue, newValue);
+            }
+        }
+    }
+
+    /**
+     * Invokes every listener at the end of a batch.
+     * <p>
+     * Listeners whose reference is a {@link PropertyBatch.Receiver} are handed to {@code receivers}
+     * instead of being invoked.
+     *
+     * @param oldValue  the value before the batch
+     * @param newValue  the value after the batch
+     * @param receivers the consumer of the receivers
+     */
+    void dispatch(
+            final T oldValue,
+            final T newValue,
+            final @NonNull BiConsumer<PropertyBatch.@NonNull Receiver, @NonNull InterfaceProperty<?>> receivers
+    ) {
+        if (this.queue.poll() != null) {
+            this.expunge();
+        }
+
+        for (final Listener listener : this.listeners) {
+            final Object reference = listener.get();
+            if (reference instanceof PropertyBatch.Receiver) {
+                receivers.accept((PropertyBatch.Receiver) reference, this.property);
+            } else if (reference != null) {
+                listener.consumer.accept(reference, oldValue, newValue);
+            }
+        }
+    }
+
+    /**
+     * Returns whether there are no listeners.
+     *
+     * @return true if there are no listeners, false if not
+     */
+    boolean isEmpty() {
+        if (this.queue.poll() != null) {
+            this.expunge();
+        }
+
+        return this.listeners.length == 0;
+    }
+
+    private synchronized void expunge() {
+        this.expungeLocked();
+    }
+
+    private void expungeLocked() {
+        // Drain the queue, the array is filtered in one go below.
+        while (this.queue.poll() != null) {
+            continue;
+        }
+
+        final Listener[] listeners = this.listeners;
+        int alive = 0;
+
+        for (final Listener listener : listeners) {
+            if (listener.get() != null) {
+                alive++;
+            }
+        }
+
+        if (alive == listeners.length) {
+            return;
+        }
+
+        final Listener[] filtered = this.newListeners(alive);
+        int index = 0;
+
+        for (final Listener listener : listeners) {
+            if (listener.get() != null) {
+                filtered[index++] = listener;
+            }
+        }
+
+        this.listeners = filtered;
+    }
+
+    private synchronized void remove(final @NonNull Listener listener) {
+        final Listener[] listeners = this.listeners;
+
+        for (int index = 0; index < listeners.length; index++) {
+            if (listeners[index] == listener) {
+                final Listener[] filtered = this.newListeners(listeners.length - 1);
+                System.arraycopy(listeners, 0, filtered, 0, index);
+                System.arraycopy(listeners, index + 1, filtered, index, listeners.length - index - 1);
+                this.listeners = filtered;
+                return;
+            }
+        }
+    }
+
+    // Arrays of an inner class of a generic class can only be created from the raw type, and every
+    // element stored in the array is a listener of this registry.
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Listener @NonNull [] newListeners(final int length) {
+        return new ListenerRegistry.Listener[length];
+    }
+
+    private final class Listener extends WeakReference<Object> implements Subscription {
+
+        private final TriConsumer<Object, T, T> consumer;
+
+        private Listener(final Object reference, final @NonNull TriConsumer<Object, T, T> consumer) {
+            super(reference, ListenerRegistry.this.queue);
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void close() {
+            ListenerRegistry.this.remove(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A {@code long} property that can be read and updated without boxing, and atomically.
+ * <p>
+ * Listeners are only notified if the value actually changes.
+ */
+public final class LongInterfaceProperty extends AtomicInterfaceProperty<Long> {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(LongInterfaceProperty.class, "value", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long value;
+
+    LongInterfaceProperty(final long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the current value of the property
+     *
+     * @return current value
+     */
+    public long getLong() {
+        return this.value;
+    }
+
+    /**
+     * Sets the new value of the property
+     *
+     * @param value new value
+     */
+    public void setLong(final long value) {
+        final long oldValue = (long) VALUE.getAndSet(this, value);
+
+        if (oldValue != value) {
+            this.changed(oldValue, value);
+        }
+    }
+
+    /**
+     * Sets the value of the property to {@code update} if the current value is {@code expect}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return true if the value was updated, false if the current value was not the expected value
+     */
+    public boolean compareAndSet(final long expect, final long update) {
+        if (!VALUE.compareAndSet(this, expect, update)) {
+            return false;
+        }
+
+        if (expect != update) {
+            this.changed(expect, update);
+        }
+
+        return true;
+    }
+
+    /**
+     * Atomically updates the value of the property with the given function.
+     * <p>
+     * The function may be invoked more than once if the property is updated concurrently.
+     *
+     * @param function the function computing the new value
+     * @return the new value
+     */
+    public long updateAndGet(final @NonNull LongUnaryOperator function) {
+        long oldValue;
+        long newValue;
+
+        do {
+            oldValue = this.value;
+            newValue = function.applyAsLong(oldValue);
+        } while (!VALUE.compareAndSet(this, oldValue, newValue));
+
+        if (oldValue != newValue) {
+            this.changed(oldValue, newValue);
+        }
+
+        return newValue;
+    }
+
+    @Override
+    public @NonNull Long get() {
+        return this.getLong();
+    }
+
+    @Override
+    public void set(final @NonNull Long value) {
+        this.setLong(value);
+    }
+
+}
@@ -0,0 +1,278 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A list property that reports every change made to it as a {@link ListDelta}.
+ * <p>
+ * The list is copy-on-write: {@link #get()} returns an immutable snapshot without copying, and every
+ * change creates a new snapshot. Regular listeners are notified with the snapshots before and after
+ * every change, while delta listeners receive the change itself, allowing them to only process the
+ * affected range of the list.
+ *
+ * @param <S> the element type
+ */
+public final class ObservableListProperty<S> implements InterfaceProperty<List<S>> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final ListenerRegistry<List<S>> updateListeners = new ListenerRegistry<>(this);
+    private final ListenerRegistry<ListDelta> deltaListeners = new ListenerRegistry<>(this);
+
+    private volatile Object[] elements;
+    private volatile long version;
+
+    ObservableListProperty(final @NonNull Collection<? extends S> elements) {
+        this.elements = elements.isEmpty() ? EMPTY : elements.toArray();
+    }
+
+    /**
+     * Returns an immutable snapshot of the list.
+     *
+     * @return the elements
+     */
+    @Override
+    public @NonNull List<S> get() {
+        return this.snapshot(this.elements);
+    }
+
+    /**
+     * Replaces every element of the list.
+     *
+     * @param value the new elements
+     */
+    @Override
+    public void set(final @NonNull List<S> value) {
+        final Object[] elements = value.isEmpty() ? EMPTY : value.toArray();
+        final Object[] oldElements;
+
+        synchronized (this) {
+            oldElements = this.elements;
+            this.commit(elements);
+        }
+
+        this.changed(oldElements, elements, new ListDelta(0, oldElements.length, elements.length));
+    }
+
+    @Override
+    public long version() {
+        return this.version;
+    }
+
+    /**
+     * Returns the amount of elements in the list.
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.elements.length;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    public S get(final int index) {
+        return (S) this.elements[index];
+    }
+
+    /**
+     * Appends an element to the list.
+     *
+     * @param element the element
+     */
+    public void add(final S element) {
+        final Object[] oldElements;
+        final Object[] elements;
+
+        synchronized (this) {
+            oldElements = this.elements;
+            elements = Arrays.copyOf(oldElements, oldElements.length + 1);
+            elements[oldElements.length] = element;
+            this.commit(elements);
+        }
+
+        this.changed(oldElements, elements, new ListDelta(oldElements.length, 0, 1));
+    }
+
+    /**
+     * Inserts an element into the list.
+     *
+     * @param index   the index to insert the element at
+     * @param element the element
+     */
+    public void add(final int index, final S element) {
+        this.addAll(index, Collections.singletonList(element));
+    }
+
+    /**
+     * Inserts elements into the list.
+     *
+     * @param index    the index to insert the first element at
+     * @param elements the elements
+     */
+    public void addAll(final int index, final @NonNull Collection<? extends S> elements) {
+        final Object[] added = elements.toArray();
+        final Object[] oldElements;
+        final Object[] newElements;
+
+        synchronized (this) {
+            oldElements = this.elements;
+            if (index < 0 || index > oldElements.length) {
+                throw new IndexOutOfBoundsException(
+                        String.format("Index %d is outside of the bounds of the list of size %d.", index, oldElements.length)
+                );
+            }
+
+            newElements = new Object[oldElements.length + added.length];
+            System.arraycopy(oldElements, 0, newElements, 0, index);
+            System.arraycopy(added, 0, newElements, index, added.length);
+            System.arraycopy(oldElements, index, newElements, index + added.length, oldElements.length - index);
+            this.commit(newElements);
+        }
+
+        this.changed(oldElements, newElements, new ListDelta(index, 0, added.length));
+    }
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index   the index
+     * @param element the new element
+     * @return the previous element
+     */
+    @SuppressWarnings("unchecked")
+    public S set(final int index, final S element) {
+        final Object[] oldElements;
+        final Object[] elements;
+
+        synchronized (this) {
+            oldElements = this.elements;
+            elements = oldElements.clone();
+            elements[index] = element;
+            this.commit(elements);
+        }
+
+        this.changed(oldElements, elements, new ListDelta(index, 1, 1));
+        return (S) oldElements[index];
+    }
+
+    /**
+     * Removes the element at the given index.
+     *
+     * @param index the index
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public S remove(final int index) {
+        final Object[] oldElements;
+        final Object[] elements;
+
+        synchronized (this) {
+            oldElements = this.elements;
+            if (index < 0 || index >= oldElements.length) {
+                throw new IndexOutOfBoundsException(
+                        String.format("Index %d is outside of the bounds of the list of size %d.", index, oldElements.length)
+                );
+            }
+
+            elements = without(oldElements, index);
+            this.commit(elements);
+        }
+
+        this.changed(oldElements, elements, new ListDelta(index, 1, 0));
+        return (S) oldElements[index];
+    }
+
+    /**
+     * Removes the first occurrence of the given element.
+     *
+     * @param element the element
+     * @return true if the element was removed, false if the list does not contain it
+     */
+    public boolean remove(final Object element) {
+        final Object[] oldElements;
+        final Object[] elements;
+        final int index;
+
+        synchronized (this) {
+            oldElements = this.elements;
+            index = Arrays.asList(oldElements).indexOf(element);
+
+            if (index < 0) {
+                return false;
+            }
+
+            elements = without(oldElements, index);
+            this.commit(elements);
+        }
+
+        this.changed(oldElements, elements, new ListDelta(index, 1, 0));
+        return true;
+    }
+
+    /**
+     * Removes every element from the list.
+     */
+    public void clear() {
+        this.set(Collections.emptyList());
+    }
+
+    /**
+     * Adds a listener that gets invoked with every change made to the list.
+     * <p>
+     * Delta listeners are invoked immediately, even while a {@link PropertyBatch} is open.
+     *
+     * @param <O>       the type of the reference
+     * @param reference an object to reference, if this object is garbage collected
+     *                  so is this listener
+     * @param consumer  the consumer
+     * @return a subscription that removes the listener when closed
+     */
+    public @NonNull <O> Subscription addDeltaListener(final O reference, final @NonNull BiConsumer<O, @NonNull ListDelta> consumer) {
+        return this.deltaListeners.add(reference, (TriConsumer<O, ListDelta, ListDelta>) (ref, ignored, delta) ->
+                consumer.accept(ref, delta)
+        );
+    }
+
+    @Override
+    public @NonNull <O> Subscription addListener(final O reference, final @NonNull TriConsumer<O, List<S>, List<S>> consumer) {
+        return this.updateListeners.add(reference, consumer);
+    }
+
+    private static @NonNull Object @NonNull [] without(final @NonNull Object @NonNull [] elements, final int index) {
+        final Object[] remaining = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, remaining, 0, index);
+        System.arraycopy(elements, index + 1, remaining, index, remaining.length - index);
+        return remaining;
+    }
+
+    private void commit(final @NonNull Object @NonNull [] elements) {
+        this.elements = elements;
+        this.version++;
+    }
+
+    private void changed(
+            final @NonNull Object @NonNull [] oldElements,
+            final @NonNull Object @NonNull [] newElements,
+            final @NonNull ListDelta delta
+    ) {
+        this.deltaListeners.fireImmediately(null, delta);
+        this.updateListeners.fire(this.snapshot(oldElements), this.snapshot(newElements));
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull List<S> snapshot(final @NonNull Object @NonNull [] elements) {
+        return (List<S>) Collections.unmodifiableList(Arrays.asList(elements));
+    }
+
+}
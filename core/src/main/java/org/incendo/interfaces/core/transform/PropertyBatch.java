@@ -0,0 +1,158 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A batch of property updates made on the current thread.
+ * <p>
+ * While a batch is open, updating a property does not notify its listeners. Once the outermost batch is
+ * closed, the listeners of every updated property are notified once, with the value the property had
+ * before the batch and its latest value. Listener references implementing {@link Receiver} are notified
+ * once for the whole batch instead, with every property they listen to that was updated.
+ * <p>
+ * Batches may be nested, in which case only closing the outermost batch notifies the listeners.
+ * Properties updated by listeners while the batch is being closed, such as derived properties, are
+ * dispatched as part of the same batch.
+ *
+ * <pre>{@code
+ * try (PropertyBatch batch = PropertyBatch.begin()) {
+ *     filter.set(newFilter);
+ *     page.setInt(0);
+ * }
+ * }</pre>
+ *
+ * @see InterfaceProperty#transaction(Runnable)
+ */
+public final class PropertyBatch implements AutoCloseable {
+
+    private static final ThreadLocal<PropertyBatch> CURRENT = new ThreadLocal<>();
+
+    private final @NonNull Map<@NonNull ListenerRegistry<?>, @NonNull Change<?>> changes = new LinkedHashMap<>();
+    private int depth = 1;
+    private boolean dispatching = false;
+
+    private PropertyBatch() {
+    }
+
+    /**
+     * Opens a batch on the current thread, or joins the batch that is already open.
+     *
+     * @return the batch
+     */
+    public static @NonNull PropertyBatch begin() {
+        final PropertyBatch current = CURRENT.get();
+
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+
+        final PropertyBatch batch = new PropertyBatch();
+        CURRENT.set(batch);
+        return batch;
+    }
+
+    /**
+     * Returns the batch open on the current thread.
+     *
+     * @return the batch, or {@code null} if there is none
+     */
+    static @Nullable PropertyBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Records an update that is dispatched once the batch is closed.
+     *
+     * @param registry the listeners of the property
+     * @param oldValue the previous value
+     * @param newValue the new value
+     * @param <T>      the value type
+     */
+    @SuppressWarnings("unchecked")
+    <T> void defer(final @NonNull ListenerRegistry<T> registry, final T oldValue, final T newValue) {
+        final Change<T> change = (Change<T>) this.changes.get(registry);
+
+        if (change == null) {
+            this.changes.put(registry, new Change<>(registry, oldValue, newValue));
+        } else {
+            change.newValue = newValue;
+        }
+    }
+
+    /**
+     * Closes this batch, notifying the listeners of the updated properties if this is the outermost batch.
+     */
+    @Override
+    public void close() {
+        if (this.depth <= 0 || --this.depth > 0 || this.dispatching) {
+            return;
+        }
+
+        final Map<Receiver, Set<InterfaceProperty<?>>> receivers = new LinkedHashMap<>();
+        this.dispatching = true;
+
+        try {
+            // Listeners may update other properties, which are dispatched in the next round.
+            while (!this.changes.isEmpty()) {
+                final List<Change<?>> round = new ArrayList<>(this.changes.values());
+                this.changes.clear();
+
+                for (final Change<?> change : round) {
+                    change.dispatch(receivers);
+                }
+            }
+        } finally {
+            CURRENT.remove();
+        }
+
+        for (final Map.Entry<Receiver, Set<InterfaceProperty<?>>> entry : receivers.entrySet()) {
+            entry.getKey().propertiesChanged(Collections.unmodifiableSet(entry.getValue()));
+        }
+    }
+
+    /**
+     * A listener reference that is notified once per batch, rather than once per updated property.
+     */
+    @FunctionalInterface
+    public interface Receiver {
+
+        /**
+         * Invoked when a batch updating some of the properties this object listens to is closed.
+         *
+         * @param properties the updated properties
+         */
+        void propertiesChanged(@NonNull Set<@NonNull InterfaceProperty<?>> properties);
+
+    }
+
+    private static final class Change<T> {
+
+        private final ListenerRegistry<T> registry;
+        private final T oldValue;
+        private T newValue;
+
+        private Change(final @NonNull ListenerRegistry<T> registry, final T oldValue, final T newValue) {
+            this.registry = registry;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        private void dispatch(final @NonNull Map<Receiver, Set<InterfaceProperty<?>>> receivers) {
+            this.registry.dispatch(this.oldValue, this.newValue, (receiver, property) ->
+                    receivers.computeIfAbsent(receiver, key -> new LinkedHashSet<>()).add(property)
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.incendo.interfaces.core.transform;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the versions of properties that do not track their own version.
+ */
+final class PropertyVersions {
+
+    private static final AtomicLong UNVERSIONED = new AtomicLong(Long.MIN_VALUE);
+
+    private PropertyVersions() {
+    }
+
+    /**
+     * Returns a version that has never been returned before.
+     *
+     * @return the version
+     */
+    static long unversioned() {
+        return UNVERSIONED.getAndIncrement();
+    }
+
+}
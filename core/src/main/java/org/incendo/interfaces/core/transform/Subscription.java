@@ -0,0 +1,29 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A handle to a listener registered with {@link InterfaceProperty#addListener(Object, TriConsumer)}.
+ */
+@FunctionalInterface
+public interface Subscription extends AutoCloseable {
+
+    /**
+     * Returns a subscription that does nothing when closed.
+     *
+     * @return the subscription
+     */
+    static @NonNull Subscription empty() {
+        return () -> {
+        };
+    }
+
+    /**
+     * Removes the listener from the property.
+     * <p>
+     * Closing a subscription more than once has no effect.
+     */
+    @Override
+    void close();
+
+}
@@ -1,13 +1,190 @@
 package org.incendo.interfaces.core.transform;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.pane.Pane;
 import org.incendo.interfaces.core.view.InterfaceView;
 import org.incendo.interfaces.core.view.InterfaceViewer;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 
 public interface Transform<T extends Pane, U extends InterfaceViewer> extends BiFunction<T, InterfaceView<T, U>, T> {
 
+    /**
+     * The {@link #refreshInterval() refresh interval} of transforms that are re-applied with the updates
+     * of their interface.
+     */
+    int REFRESH_WITH_INTERFACE = -1;
+
+    /**
+     * The {@link #refreshInterval() refresh interval} of transforms that are never refreshed, and only
+     * re-applied when one of their properties has been updated.
+     * <p>
+     * Transforms registered without properties are re-applied with every update of their interface, and
+     * can use this interval to be applied only once instead.
+     */
+    int REFRESH_NEVER = 0;
+
+    /**
+     * Returns a transform that is re-applied every time an updating interface updates.
+     *
+     * @param transform the transform
+     * @param <T>       the pane type
+     * @param <U>       the viewer type
+     * @return the updating transform
+     * @see #updates()
+     */
+    static <T extends Pane, U extends InterfaceViewer> @NonNull Transform<T, U> updating(
+            final @NonNull Transform<T, U> transform
+    ) {
+        return new Transform<>() {
+            @Override
+            public T apply(final T pane, final InterfaceView<T, U> view) {
+                return transform.apply(pane, view);
+            }
+
+            @Override
+            public boolean async() {
+                return transform.async();
+            }
+
+            @Override
+            public boolean updates() {
+                return true;
+            }
+
+            @Override
+            public @Nullable Duration deadline() {
+                return transform.deadline();
+            }
+
+            @Override
+            public @Nullable Transform<T, U> placeholder() {
+                return transform.placeholder();
+            }
+
+            @Override
+            public int refreshInterval() {
+                return transform.refreshInterval();
+            }
+        };
+    }
+
+    /**
+     * Returns an asynchronous transform that is given the given amount of time to complete.
+     * <p>
+     * If the transform has not completed in time, the view is rendered with the pane of the placeholder
+     * transform in its place, and the pane of the transform is rendered once it arrives.
+     *
+     * @param transform   the transform
+     * @param deadline    the time the transform is given to complete
+     * @param placeholder the transform rendered in place of a late transform, or {@code null} to
+     *                    keep the previously rendered pane of the transform
+     * @param <T>         the pane type
+     * @param <U>         the viewer type
+     * @return the transform with a deadline
+     * @see #deadline()
+     */
+    static <T extends Pane, U extends InterfaceViewer> @NonNull Transform<T, U> withDeadline(
+            final @NonNull Transform<T, U> transform,
+            final @NonNull Duration deadline,
+            final @Nullable Transform<T, U> placeholder
+    ) {
+        if (deadline.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("The deadline must not be negative, got %s.", deadline)
+            );
+        }
+
+        return new Transform<>() {
+            @Override
+            public T apply(final T pane, final InterfaceView<T, U> view) {
+                return transform.apply(pane, view);
+            }
+
+            @Override
+            public boolean async() {
+                return true;
+            }
+
+            @Override
+            public boolean updates() {
+                return transform.updates();
+            }
+
+            @Override
+            public @NonNull Duration deadline() {
+                return deadline;
+            }
+
+            @Override
+            public @Nullable Transform<T, U> placeholder() {
+                return placeholder;
+            }
+
+            @Override
+            public int refreshInterval() {
+                return transform.refreshInterval();
+            }
+        };
+    }
+
+    /**
+     * Returns a transform that is re-applied every {@code interval} ticks, independently of the updates
+     * of its interface.
+     *
+     * @param transform the transform
+     * @param interval  the amount of ticks between refreshes, or {@link #REFRESH_NEVER} to never refresh
+     *                  the transform
+     * @param <T>       the pane type
+     * @param <U>       the viewer type
+     * @return the refreshing transform
+     * @see #refreshInterval()
+     */
+    static <T extends Pane, U extends InterfaceViewer> @NonNull Transform<T, U> refreshing(
+            final @NonNull Transform<T, U> transform,
+            final int interval
+    ) {
+        if (interval < 0) {
+            throw new IllegalArgumentException(
+                    String.format("The refresh interval must not be negative, got %d.", interval)
+            );
+        }
+
+        return new Transform<>() {
+            @Override
+            public T apply(final T pane, final InterfaceView<T, U> view) {
+                return transform.apply(pane, view);
+            }
+
+            @Override
+            public boolean async() {
+                return transform.async();
+            }
+
+            @Override
+            public boolean updates() {
+                return transform.updates();
+            }
+
+            @Override
+            public @Nullable Duration deadline() {
+                return transform.deadline();
+            }
+
+            @Override
+            public @Nullable Transform<T, U> placeholder() {
+                return transform.placeholder();
+            }
+
+            @Override
+            public int refreshInterval() {
+                return interval;
+            }
+        };
+    }
+
     /**
      * Returns if this transform should be applied asynchronously.
      *
@@ -17,4 +194,56 @@ public interface Transform<T extends Pane, U extends InterfaceViewer> extends Bi
         return false;
     }
 
+    /**
+     * Returns if this transform should be re-applied every time an updating interface updates.
+     * <p>
+     * Transforms that do not update are only re-applied when one of the properties they depend on
+     * has been updated, and otherwise keep the pane they previously returned. Transforms that depend on
+     * no properties are always re-applied, unless their {@link #refreshInterval() refresh interval} is
+     * {@link #REFRESH_NEVER}.
+     *
+     * @return true if this transform should be re-applied on every update, false if not
+     */
+    default boolean updates() {
+        return false;
+    }
+
+    /**
+     * Returns the time this transform is given to complete when it is applied asynchronously.
+     * <p>
+     * Views do not wait for a transform past its deadline: they render the other transforms on time, with
+     * the {@link #placeholder() placeholder} in place of the late transform, and render the late
+     * transform once it completes.
+     *
+     * @return the deadline, or {@code null} if views should wait for this transform to complete
+     */
+    default @Nullable Duration deadline() {
+        return null;
+    }
+
+    /**
+     * Returns the transform rendered in place of this transform when it misses its {@link #deadline() deadline}.
+     * <p>
+     * The placeholder is applied synchronously, and should be cheap.
+     *
+     * @return the placeholder, or {@code null} to keep the previously rendered pane of this transform
+     */
+    default @Nullable Transform<T, U> placeholder() {
+        return null;
+    }
+
+    /**
+     * Returns the amount of ticks between refreshes of this transform.
+     * <p>
+     * A transform with a positive refresh interval is re-applied on its own schedule, without re-applying
+     * the other transforms of its view, and is not re-applied by the updates of its interface. Like every
+     * transform, it is also re-applied when one of its properties has been updated.
+     *
+     * @return the amount of ticks, {@link #REFRESH_NEVER} to never refresh this transform, or
+     *         {@link #REFRESH_WITH_INTERFACE} to re-apply it with the updates of its interface
+     */
+    default int refreshInterval() {
+        return REFRESH_WITH_INTERFACE;
+    }
+
 }
@@ -1,9 +1,11 @@
 package org.incendo.interfaces.core.transform;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.pane.Pane;
 import org.incendo.interfaces.core.view.InterfaceViewer;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -16,15 +18,24 @@ public final class TransformContext<U extends Pane, V extends InterfaceViewer> {
     private final int priority;
     private final Transform<U, V> transform;
     private final Collection<InterfaceProperty<?>> properties;
+    private final @Nullable Duration deadline;
+    private final @Nullable Transform<U, V> placeholder;
+    private final int refreshInterval;
 
     private TransformContext(
             final int priority,
             final @NonNull Transform<U, V> transform,
-            final @NonNull InterfaceProperty<?>[] properties
+            final @NonNull Collection<InterfaceProperty<?>> properties,
+            final @Nullable Duration deadline,
+            final @Nullable Transform<U, V> placeholder,
+            final int refreshInterval
     ) {
-        this.properties = Arrays.asList(properties);
+        this.properties = properties;
         this.priority = priority;
         this.transform = transform;
+        this.deadline = deadline;
+        this.placeholder = placeholder;
+        this.refreshInterval = refreshInterval;
     }
 
     /**
@@ -42,7 +53,69 @@ public final class TransformContext<U extends Pane, V extends InterfaceViewer> {
             final @NonNull Transform<U, V> transform,
             final @NonNull InterfaceProperty<?>... properties
     ) {
-        return new TransformContext<>(priority, transform, properties);
+        return new TransformContext<>(
+                priority,
+                transform,
+                Arrays.asList(properties),
+                transform.deadline(),
+                transform.placeholder(),
+                transform.refreshInterval()
+        );
+    }
+
+    /**
+     * Returns a copy of this context with the given deadline.
+     *
+     * @param deadline    the time the transform is given to complete
+     * @param placeholder the transform rendered in place of a late transform, or {@code null} to
+     *                    keep the previously rendered pane of the transform
+     * @return the new context
+     * @see Transform#deadline()
+     */
+    public @NonNull TransformContext<U, V> withDeadline(
+            final @NonNull Duration deadline,
+            final @Nullable Transform<U, V> placeholder
+    ) {
+        if (deadline.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("The deadline must not be negative, got %s.", deadline)
+            );
+        }
+
+        return new TransformContext<>(
+                this.priority,
+                this.transform,
+                this.properties,
+                deadline,
+                placeholder,
+                this.refreshInterval
+        );
+    }
+
+    /**
+     * Returns a copy of this context with the given refresh interval.
+     *
+     * @param refreshInterval the amount of ticks between refreshes, {@link Transform#REFRESH_NEVER} to never
+     *                        refresh the transform, or {@link Transform#REFRESH_WITH_INTERFACE} to re-apply it
+     *                        with the updates of its interface
+     * @return the new context
+     * @see Transform#refreshInterval()
+     */
+    public @NonNull TransformContext<U, V> withRefreshInterval(final int refreshInterval) {
+        if (refreshInterval < Transform.REFRESH_WITH_INTERFACE) {
+            throw new IllegalArgumentException(
+                    String.format("The refresh interval must not be negative, got %d.", refreshInterval)
+            );
+        }
+
+        return new TransformContext<>(
+                this.priority,
+                this.transform,
+                this.properties,
+                this.deadline,
+                this.placeholder,
+                refreshInterval
+        );
     }
 
     /**
@@ -72,4 +145,32 @@ public final class TransformContext<U extends Pane, V extends InterfaceViewer> {
         return this.properties;
     }
 
+    /**
+     * Returns the time the transform is given to complete when it is applied asynchronously
+     *
+     * @return the deadline, or {@code null} if views should wait for the transform to complete
+     */
+    public @Nullable Duration deadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Returns the transform rendered in place of the transform when it misses its deadline
+     *
+     * @return the placeholder, or {@code null} to keep the previously rendered pane of the transform
+     */
+    public @Nullable Transform<U, V> placeholder() {
+        return this.placeholder;
+    }
+
+    /**
+     * Returns the amount of ticks between refreshes of the transform
+     *
+     * @return the refresh interval
+     * @see Transform#refreshInterval()
+     */
+    public int refreshInterval() {
+        return this.refreshInterval;
+    }
+
 }
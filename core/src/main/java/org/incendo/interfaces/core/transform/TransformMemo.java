@@ -0,0 +1,76 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.pane.Pane;
+import org.incendo.interfaces.core.view.InterfaceViewer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the {@link InterfaceProperty#version() versions} of the properties each transform was
+ * last applied with, so that a view can skip transforms whose output would not change.
+ *
+ * @param <U> the pane type
+ * @param <V> the viewer type
+ */
+public final class TransformMemo<U extends Pane, V extends InterfaceViewer> {
+
+    private final @NonNull Map<@NonNull TransformContext<U, V>, long @NonNull []> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether the given transform has to be re-applied.
+     * <p>
+     * This is the case if the transform {@link Transform#updates() updates} with its interface or depends
+     * on no properties, has not been applied yet, or if any of its properties has been updated since it was
+     * last applied. Transforms with their own {@link TransformContext#refreshInterval() refresh interval},
+     * including {@link Transform#REFRESH_NEVER}, are not re-applied with the updates of their interface.
+     *
+     * @param context the transform
+     * @return true if the transform has to be re-applied, false if not
+     */
+    public boolean stale(final @NonNull TransformContext<U, V> context) {
+        if (context.refreshInterval() == Transform.REFRESH_WITH_INTERFACE
+                // Without properties, there is nothing to tell whether the output of the transform has changed.
+                && (context.transform().updates() || context.properties().isEmpty())) {
+            return true;
+        }
+
+        final long[] applied = this.versions.get(context);
+        return applied == null || !Arrays.equals(applied, this.versions(context));
+    }
+
+    /**
+     * Returns the current versions of the properties of the given transform.
+     * <p>
+     * The versions should be captured before the transform is applied, so that updates made while
+     * the transform is running cause it to be re-applied.
+     *
+     * @param context the transform
+     * @return the versions
+     */
+    public long @NonNull [] versions(final @NonNull TransformContext<U, V> context) {
+        final Collection<InterfaceProperty<?>> properties = context.properties();
+        final long[] versions = new long[properties.size()];
+
+        int index = 0;
+        for (final InterfaceProperty<?> property : properties) {
+            versions[index++] = property.version();
+        }
+
+        return versions;
+    }
+
+    /**
+     * Records that the given transform has been applied.
+     *
+     * @param context  the transform
+     * @param versions the versions returned by {@link #versions(TransformContext)} before the transform was applied
+     */
+    public void applied(final @NonNull TransformContext<U, V> context, final long @NonNull [] versions) {
+        this.versions.put(context, versions);
+    }
+
+}
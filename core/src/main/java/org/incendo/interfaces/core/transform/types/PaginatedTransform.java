@@ -1,6 +1,8 @@
 package org.incendo.interfaces.core.transform.types;
 
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -10,7 +12,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.value.qual.IntRange;
 import org.incendo.interfaces.core.element.Element;
 import org.incendo.interfaces.core.pane.GridPane;
+import org.incendo.interfaces.core.pane.MutableGridPane;
+import org.incendo.interfaces.core.transform.IntInterfaceProperty;
 import org.incendo.interfaces.core.transform.InterfaceProperty;
+import org.incendo.interfaces.core.transform.ListDelta;
+import org.incendo.interfaces.core.transform.ObservableListProperty;
 import org.incendo.interfaces.core.transform.ReactiveTransform;
 import org.incendo.interfaces.core.util.Vector2;
 import org.incendo.interfaces.core.view.InterfaceView;
@@ -27,7 +33,7 @@ import org.incendo.interfaces.core.view.InterfaceViewer;
 public final class PaginatedTransform<S extends Element, T extends GridPane<T, S>, U extends InterfaceViewer>
         implements ReactiveTransform<T, U, Integer> {
 
-    private final InterfaceProperty<Integer> pageProperty = InterfaceProperty.of(0);
+    private final IntInterfaceProperty pageProperty = InterfaceProperty.ofInt(0);
 
     private final Vector2 min;
     private final Vector2 max;
@@ -37,6 +43,9 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
 
     private final Supplier<List<@NonNull S>> elementsSupplier;
 
+    private final @Nullable ObservableListProperty<S> elementsProperty;
+    private final @NonNull Map<@NonNull T, @NonNull Render<T>> renders = new WeakHashMap<>();
+
     private @NonNull Vector2 backwardElementPosition = Vector2.at(-1, -1);
     private @NonNull Vector2 forwardElementPosition = Vector2.at(-1, -1);
 
@@ -54,18 +63,46 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
             final @NonNull Vector2 min,
             final @NonNull Vector2 max,
             final @NonNull Supplier<List<@NonNull S>> elementsSupplier
+    ) {
+        this(min, max, elementsSupplier, null);
+    }
+
+    /**
+     * Constructs a new paginated transform.
+     * <p>
+     * The rendered pages are cached, and changes to the elements only re-render the slots of the current
+     * page that display the changed elements.
+     *
+     * @param min      the coordinates for the minimum (inclusive) point where the elements are rendered
+     * @param max      the coordinates for the maximum (inclusive) point where the elements are rendered
+     * @param elements the property holding the elements
+     */
+    public PaginatedTransform(
+            final @NonNull Vector2 min,
+            final @NonNull Vector2 max,
+            final @NonNull ObservableListProperty<@NonNull S> elements
+    ) {
+        this(min, max, elements::get, elements);
+        elements.addDeltaListener(this, PaginatedTransform::invalidate);
+    }
+
+    private PaginatedTransform(
+            final @NonNull Vector2 min,
+            final @NonNull Vector2 max,
+            final @NonNull Supplier<List<@NonNull S>> elementsSupplier,
+            final @Nullable ObservableListProperty<S> elementsProperty
     ) {
         this.min = min;
         this.max = max;
         this.dim = Vector2.at(max.x() - min.x() + 1, max.y() - min.y() + 1);
         this.elementsSupplier = elementsSupplier;
+        this.elementsProperty = elementsProperty;
         // Calculate the number of available slots.
         final int slots = this.dim.x() * this.dim.y();
         // Calculate the number of pages occupied by the elements.
         this.pageSupplier = () -> {
-            final List<@NonNull S> elements = elementsSupplier.get();
             // Calculate the number of elements.
-            final int numberOfElements = elements.size();
+            final int numberOfElements = elementsProperty == null ? elementsSupplier.get().size() : elementsProperty.size();
             return (int) Math.ceil((double) numberOfElements / (double) slots);
         };
     }
@@ -87,6 +124,9 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
 
     @Override
     public @NonNull InterfaceProperty<?>[] properties() {
+        if (this.elementsProperty != null) {
+            return new InterfaceProperty<?>[]{this.pageProperty, this.elementsProperty};
+        }
         return new InterfaceProperty<?>[]{this.pageProperty};
     }
 
@@ -94,61 +134,157 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
      * Get the property containing the pagination's current page.
      *
      * @return an Integer InterfaceProperty
+     * @see #pageIntProperty()
      */
     public @NonNull InterfaceProperty<Integer> pageProperty() {
         return this.pageProperty;
     }
 
+    /**
+     * Get the property containing the pagination's current page, which can be read and updated without boxing.
+     *
+     * @return an int InterfaceProperty
+     */
+    public @NonNull IntInterfaceProperty pageIntProperty() {
+        return this.pageProperty;
+    }
+
     @Override
-    @SuppressWarnings("ALL")
     public T apply(
             final T originalPane,
             final InterfaceView<T, U> view
     ) {
-        if (this.page() < 0 || this.page() > this.maxPage()) {
+        if (this.elementsProperty == null) {
+            final List<@NonNull S> elements = this.elementsSupplier.get();
+            return this.render(originalPane, elements, this.page(), this.maxPage(elements.size()));
+        }
+
+        final Render<T> render;
+        final int dirtyFrom;
+        final int dirtyTo;
+
+        // Mark the render as clean before taking the snapshot, so that changes made after the
+        // snapshot was taken are never lost.
+        synchronized (this.renders) {
+            render = this.renders.computeIfAbsent(originalPane, key -> new Render<>());
+            dirtyFrom = render.dirtyFrom;
+            dirtyTo = render.dirtyTo;
+            render.dirtyFrom = Integer.MAX_VALUE;
+            render.dirtyTo = Integer.MIN_VALUE;
+        }
+
+        final List<@NonNull S> elements = this.elementsProperty.get();
+        final int page = this.page();
+        final int maxPage = this.maxPage(elements.size());
+        final T pane;
+
+        if (render.pane == null || render.page != page || render.maxPage != maxPage) {
+            pane = this.render(originalPane, elements, page, maxPage);
+        } else {
+            pane = this.patch(originalPane, render.pane, elements, page, maxPage, dirtyFrom, dirtyTo);
+        }
+
+        synchronized (this.renders) {
+            render.pane = pane;
+            render.page = page;
+            render.maxPage = maxPage;
+        }
+
+        return pane;
+    }
+
+    @SuppressWarnings("ALL")
+    private T render(
+            final T originalPane,
+            final List<@NonNull S> suppliedElements,
+            final int page,
+            final int maxPage
+    ) {
+        if (page < 0 || page > maxPage) {
             throw new IllegalStateException(
                     String.format(
                             "Page number is out of bounds. Must be in the range [%d, %d].",
                             0,
-                            this.maxPage()
+                            maxPage
                     )
             );
         }
-        final List<@NonNull S> suppliedElements = this.elementsSupplier.get();
-        // Pane that we're updating.
-        T pane = originalPane;
         // Calculate the number of available slots.
         final int slots = this.dim.x() * this.dim.y();
         // Calculate the offset.
-        final int offset = slots * this.page();
+        final int offset = slots * page;
         // Calculate the page elements.
         final List<S> elements = suppliedElements.subList(offset, suppliedElements.size());
-        // Index used to reference the elements.
-        int elementIndex = 0;
-        // Render the elements.
-        for (int y = this.min.y(); y <= this.max.y(); y++) {
-            for (int x = this.min.x(); x <= this.max.x() && elementIndex < elements.size(); x++) {
-                 pane = pane.element(elements.get(elementIndex), x, y);
-                 // Increment the element index.
-                elementIndex++;
+        // Write all changes into a single copy of the pane.
+        return originalPane.edit(pane -> {
+            // Index used to reference the elements.
+            int elementIndex = 0;
+            // Render the elements.
+            for (int y = this.min.y(); y <= this.max.y(); y++) {
+                for (int x = this.min.x(); x <= this.max.x() && elementIndex < elements.size(); x++) {
+                    pane.element(elements.get(elementIndex), x, y);
+                    // Increment the element index.
+                    elementIndex++;
+                }
             }
+            this.renderNavigation(pane, page, maxPage);
+        });
+    }
+
+    private T patch(
+            final T originalPane,
+            final T previousPane,
+            final List<@NonNull S> elements,
+            final int page,
+            final int maxPage,
+            final int dirtyFrom,
+            final int dirtyTo
+    ) {
+        final int slots = this.dim.x() * this.dim.y();
+        final int offset = slots * page;
+        // Only the part of the page displaying changed elements is rendered again.
+        final int from = Math.max(dirtyFrom, offset);
+        final int to = Math.min(dirtyTo, offset + slots);
+
+        if (from >= to) {
+            return previousPane;
         }
+
+        return previousPane.edit(pane -> {
+            for (int index = from; index < to; index++) {
+                final int x = this.min.x() + (index - offset) % this.dim.x();
+                final int y = this.min.y() + (index - offset) / this.dim.x();
+                // Slots past the end of the list show the original pane.
+                pane.element(index < elements.size() ? elements.get(index) : originalPane.element(x, y), x, y);
+            }
+            this.renderNavigation(pane, page, maxPage);
+        });
+    }
+
+    private void renderNavigation(final @NonNull MutableGridPane<S> pane, final int page, final int maxPage) {
         // Add the backward element, if one should exist.
-        if (this.page() > 0) {
+        if (page > 0) {
             final @Nullable S backwardElement = this.backwardElementBuilder.apply(this);
             if (backwardElement != null) {
-                pane = pane.element(backwardElement, this.backwardElementPosition.x(), this.backwardElementPosition.y());
+                pane.element(backwardElement, this.backwardElementPosition.x(), this.backwardElementPosition.y());
             }
         }
         // Add the forward element, if one should exist.
-        if (this.page() < this.maxPage()) {
+        if (page < maxPage) {
             final @Nullable S forwardElement = this.forwardElementBuilder.apply(this);
             if (forwardElement != null) {
-                pane = pane.element(forwardElement, this.forwardElementPosition.x(), this.forwardElementPosition.y());
+                pane.element(forwardElement, this.forwardElementPosition.x(), this.forwardElementPosition.y());
+            }
+        }
+    }
+
+    private void invalidate(final @NonNull ListDelta delta) {
+        synchronized (this.renders) {
+            for (final Render<T> render : this.renders.values()) {
+                render.dirtyFrom = Math.min(render.dirtyFrom, delta.affectedFrom());
+                render.dirtyTo = Math.max(render.dirtyTo, delta.affectedTo());
             }
         }
-        // Return the updated pane.
-        return pane;
     }
 
     /**
@@ -157,7 +293,7 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
      * @return the current page (0-indexed)
      */
     public @IntRange(from = 0) int page() {
-        return this.pageProperty.get();
+        return this.pageProperty.getInt();
     }
 
     /**
@@ -169,6 +305,11 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
         return Math.max(this.pageSupplier.get() - 1, 0);
     }
 
+    private @IntRange(from = 0) int maxPage(final int size) {
+        final int slots = this.dim.x() * this.dim.y();
+        return Math.max((int) Math.ceil((double) size / (double) slots) - 1, 0);
+    }
+
     /**
      * Returns the number of pages.
      *
@@ -221,16 +362,19 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
      * @throws IllegalStateException if the previous page does not exist
      */
     public void previousPage() {
-        if (this.page() == 0) {
-            throw new IllegalStateException(
-                    String.format(
-                            "Page number is out of bounds. Must be in the range [%d, %d].",
-                            0,
-                            this.maxPage()
-                    )
-            );
-        }
-        this.pageProperty.set(this.page() - 1);
+        final int maxPage = this.maxPage();
+        this.pageProperty.updateAndGet(page -> {
+            if (page == 0) {
+                throw new IllegalStateException(
+                        String.format(
+                                "Page number is out of bounds. Must be in the range [%d, %d].",
+                                0,
+                                maxPage
+                        )
+                );
+            }
+            return page - 1;
+        });
     }
 
     /**
@@ -239,16 +383,29 @@ public final class PaginatedTransform<S extends Element, T extends GridPane<T, S
      * @throws IllegalStateException if the previous next does not exist
      */
     public void nextPage() {
-        if (this.page() == this.maxPage()) {
-            throw new IllegalStateException(
-                    String.format(
-                            "Page number is out of bounds. Must be in the range [%d, %d].",
-                            0,
-                            this.maxPage()
-                    )
-            );
-        }
-        this.pageProperty.set(this.page() + 1);
+        final int maxPage = this.maxPage();
+        this.pageProperty.updateAndGet(page -> {
+            if (page >= maxPage) {
+                throw new IllegalStateException(
+                        String.format(
+                                "Page number is out of bounds. Must be in the range [%d, %d].",
+                                0,
+                                maxPage
+                        )
+                );
+            }
+            return page + 1;
+        });
+    }
+
+    private static final class Render<T> {
+
+        private @Nullable T pane;
+        private int page;
+        private int maxPage;
+        private int dirtyFrom = Integer.MAX_VALUE;
+        private int dirtyTo = Integer.MIN_VALUE;
+
     }
 
 }
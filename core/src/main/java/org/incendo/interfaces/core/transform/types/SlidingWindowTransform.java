@@ -11,6 +11,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.element.Element;
 import org.incendo.interfaces.core.pane.GridPane;
+import org.incendo.interfaces.core.transform.IntInterfaceProperty;
 import org.incendo.interfaces.core.transform.InterfaceProperty;
 import org.incendo.interfaces.core.transform.ReactiveTransform;
 import org.incendo.interfaces.core.util.Vector2;
@@ -27,7 +28,7 @@ import org.incendo.interfaces.core.view.InterfaceViewer;
 public final class SlidingWindowTransform<S extends Element, T extends GridPane<T, S>, U extends InterfaceViewer>
         implements ReactiveTransform<T, U, Integer> {
 
-    private final InterfaceProperty<Integer> offsetProperty = InterfaceProperty.of(Integer.MAX_VALUE / 2);
+    private final IntInterfaceProperty offsetProperty = InterfaceProperty.ofInt(Integer.MAX_VALUE / 2);
 
     private final Vector2 min;
     private final Vector2 max;
@@ -79,46 +80,56 @@ public final class SlidingWindowTransform<S extends Element, T extends GridPane<
      * Get the property containing the slides current offset.
      *
      * @return an Integer InterfaceProperty
+     * @see #offsetIntProperty()
      */
     public @NonNull InterfaceProperty<Integer> offsetProperty() {
         return this.offsetProperty;
     }
 
+    /**
+     * Get the property containing the slides current offset, which can be read and updated without boxing.
+     *
+     * @return an int InterfaceProperty
+     */
+    public @NonNull IntInterfaceProperty offsetIntProperty() {
+        return this.offsetProperty;
+    }
+
     @Override
     @SuppressWarnings("ALL")
     public T apply(
             final T originalPane,
             final InterfaceView<T, U> view
     ) {
-        // Pane that we're updating.
-        T pane = originalPane;
         // Calculate the columns that we are displaying.
         final int columns = this.elements.size();
-        final int startColumn = this.offsetProperty.get() % columns;
-        // Render the columns.
-        for (int i = 0; i < this.dim.x(); i++) {
-            final int column = (this.offsetProperty.get() + i) % columns;
-            final List<S> elements = this.elements.get(column);
-
-            final int x = i + this.min.x();
-            for (int j = 0; j < this.dim.y(); j++) {
-                final int y = this.min.y() + j;
-
-                pane = pane.element(elements.get(j), x, y);
+        final int offset = this.offsetProperty.getInt();
+        final int startColumn = offset % columns;
+        // Write all changes into a single copy of the pane.
+        return originalPane.edit(pane -> {
+            // Render the columns.
+            for (int i = 0; i < this.dim.x(); i++) {
+                final int column = (offset + i) % columns;
+                final List<S> elements = this.elements.get(column);
+
+                final int x = i + this.min.x();
+                for (int j = 0; j < this.dim.y(); j++) {
+                    final int y = this.min.y() + j;
+
+                    pane.element(elements.get(j), x, y);
+                }
             }
-        }
-        // Add the backward element, if one should exist.
-        final @Nullable S backwardElement = this.backwardElementBuilder.apply(this);
-        if (backwardElement != null) {
-            pane = pane.element(backwardElement, this.backwardElementPosition.x(), this.backwardElementPosition.y());
-        }
-        // Add the forward element, if one should exist.
-        final @Nullable S forwardElement = this.forwardElementBuilder.apply(this);
-        if (forwardElement != null) {
-            pane = pane.element(forwardElement, this.forwardElementPosition.x(), this.forwardElementPosition.y());
-        }
-        // Return the updated pane.
-        return pane;
+            // Add the backward element, if one should exist.
+            final @Nullable S backwardElement = this.backwardElementBuilder.apply(this);
+            if (backwardElement != null) {
+                pane.element(backwardElement, this.backwardElementPosition.x(), this.backwardElementPosition.y());
+            }
+            // Add the forward element, if one should exist.
+            final @Nullable S forwardElement = this.forwardElementBuilder.apply(this);
+            if (forwardElement != null) {
+                pane.element(forwardElement, this.forwardElementPosition.x(), this.forwardElementPosition.y());
+            }
+        });
     }
 
     /**
@@ -153,22 +164,14 @@ public final class SlidingWindowTransform<S extends Element, T extends GridPane<
      * Slide the window one backward one step.
      */
     public void slideBack() {
-        if (this.offsetProperty.get() == 0) {
-            this.offsetProperty.set(Integer.MAX_VALUE);
-        } else {
-            this.offsetProperty.set(this.offsetProperty.get() - 1);
-        }
+        this.offsetProperty.updateAndGet(offset -> offset == 0 ? Integer.MAX_VALUE : offset - 1);
     }
 
     /**
      * Slide the window view forward one step.
      */
     public void slideForward() {
-        if (this.offsetProperty.get() == Integer.MAX_VALUE) {
-            this.offsetProperty.set(0);
-        } else {
-            this.offsetProperty.set(this.offsetProperty.get() + 1);
-        }
+        this.offsetProperty.updateAndGet(offset -> offset == Integer.MAX_VALUE ? 0 : offset + 1);
     }
 
 }
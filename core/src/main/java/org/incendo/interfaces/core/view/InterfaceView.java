@@ -4,8 +4,11 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.interfaces.core.Interface;
 import org.incendo.interfaces.core.arguments.InterfaceArguments;
 import org.incendo.interfaces.core.pane.Pane;
+import org.incendo.interfaces.core.transform.InterfaceProperty;
 import org.incendo.interfaces.core.transform.InterruptUpdateException;
 
+import java.util.Set;
+
 /**
  * Represents a currently open interface (a "view").
  *
@@ -64,6 +67,9 @@ public interface InterfaceView<T extends Pane, U extends InterfaceViewer> {
 
     /**
      * Triggers a manual update.
+     * <p>
+     * Unless the view is updated in place, for example because it is a {@link RenderedView}, the
+     * interface is opened again with the arguments of this view.
      */
     default void update() {
         if (this.viewing()) {
@@ -74,4 +80,16 @@ public interface InterfaceView<T extends Pane, U extends InterfaceViewer> {
         }
     }
 
+    /**
+     * Updates the parts of the view that depend on the given properties.
+     * <p>
+     * Views that cannot update only some of their parts perform a full {@link #update() update}.
+     *
+     * @param changed the changed properties
+     * @see RenderedView
+     */
+    default void refresh(final @NonNull Set<@NonNull InterfaceProperty<?>> changed) {
+        this.update();
+    }
+
 }
@@ -0,0 +1,203 @@
+package org.incendo.interfaces.core.view;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the generation of the renders of a view.
+ * <p>
+ * Every render is tagged with a new generation. A render re-applies some of the parts of a view, each
+ * identified by a key, such as a transform. The result of a part should only be applied while the render
+ * is still the {@link #current(Object, long) latest render of that part}. Starting a part again cancels
+ * the asynchronous task of its previous render and interrupts the thread running it, so that slow tasks
+ * stop working on results that would be discarded anyway. The tasks of parts a newer render does not
+ * re-apply are left running, and remain current.
+ */
+public final class RenderGeneration {
+
+    private final @NonNull AtomicLong generation = new AtomicLong();
+    private final @NonNull Map<@NonNull Object, @NonNull Long> latest = new ConcurrentHashMap<>();
+    private final @NonNull Map<@NonNull Object, @NonNull Task<?>> tasks = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a new render.
+     * <p>
+     * The tasks of previous renders keep running, unless their part is {@link #start(Object, long)
+     * started} again.
+     *
+     * @return the generation of the new render
+     */
+    public long next() {
+        return this.generation.incrementAndGet();
+    }
+
+    /**
+     * Returns whether the given generation is the generation of the latest render.
+     *
+     * @param generation the generation
+     * @return true if the generation is current, false if not
+     */
+    public boolean current(final long generation) {
+        return this.generation.get() == generation;
+    }
+
+    /**
+     * Returns whether the render with the given generation is the latest render of the given part.
+     *
+     * @param key        the key identifying the part
+     * @param generation the generation
+     * @return true if the generation is current for the part, false if not
+     */
+    public boolean current(final @NonNull Object key, final long generation) {
+        return Objects.equals(this.latest.get(key), generation);
+    }
+
+    /**
+     * Records that the render with the given generation re-applies the given part, cancelling the task
+     * of any previous render of the part.
+     *
+     * @param key        the key identifying the part
+     * @param generation the generation of the render
+     */
+    public void start(final @NonNull Object key, final long generation) {
+        this.latest.merge(key, generation, Math::max);
+
+        final Task<?> task = this.tasks.get(key);
+        if (task != null && task.generation < generation) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Cancels every render, for example because the view has been closed.
+     * <p>
+     * No generation is current for any part afterwards, until it is started again.
+     */
+    public void cancel() {
+        this.generation.incrementAndGet();
+        this.latest.clear();
+
+        for (final Task<?> task : this.tasks.values()) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Runs the given task on the given executor, as the given part of the render with the given
+     * generation.
+     * <p>
+     * The part is {@link #start(Object, long) started}, and the returned future is cancelled, and the
+     * thread running the task interrupted, once a newer render starts the same part.
+     *
+     * @param key        the key identifying the part
+     * @param generation the generation of the render
+     * @param supplier   the task
+     * @param executor   the executor to run the task on
+     * @param <T>        the result type
+     * @return a future completed with the result of the task
+     */
+    public <T> @NonNull CompletableFuture<T> supplyAsync(
+            final @NonNull Object key,
+            final long generation,
+            final @NonNull Supplier<T> supplier,
+            final @NonNull Executor executor
+    ) {
+        final Task<T> task = new Task<>(generation, supplier);
+
+        this.start(key, generation);
+        this.tasks.put(key, task);
+        task.whenComplete((result, throwable) -> this.tasks.remove(key, task));
+
+        if (!this.current(key, generation)) {
+            // The part was started by a newer render before the task could be started.
+            task.cancel(false);
+            return task;
+        }
+
+        try {
+            executor.execute(task);
+        } catch (final RuntimeException e) {
+            task.completeExceptionally(e);
+        }
+
+        return task;
+    }
+
+    /**
+     * Returns whether the given throwable was caused by a cancelled render.
+     *
+     * @param throwable the throwable
+     * @return true if the render was cancelled, false if not
+     */
+    public static boolean cancelled(final @Nullable Throwable throwable) {
+        Throwable cause = throwable;
+
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause instanceof CancellationException;
+    }
+
+    private static final class Task<T> extends CompletableFuture<T> implements Runnable {
+
+        private final long generation;
+        private final @NonNull Supplier<T> supplier;
+        private @Nullable Thread runner;
+
+        private Task(final long generation, final @NonNull Supplier<T> supplier) {
+            this.generation = generation;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (this.isDone()) {
+                    return;
+                }
+
+                this.runner = Thread.currentThread();
+            }
+
+            try {
+                this.complete(this.supplier.get());
+            } catch (final Throwable throwable) {
+                this.completeExceptionally(throwable);
+            } finally {
+                synchronized (this) {
+                    this.runner = null;
+                    // Do not leak an interrupt into the next task run by this thread.
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+            if (cancelled && mayInterruptIfRunning) {
+                synchronized (this) {
+                    if (this.runner != null) {
+                        this.runner.interrupt();
+                    }
+                }
+            }
+
+            return cancelled;
+        }
+
+    }
+
+}
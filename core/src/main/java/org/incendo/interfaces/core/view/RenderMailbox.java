@@ -0,0 +1,203 @@
+package org.incendo.interfaces.core.view;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.transform.InterfaceProperty;
+import org.incendo.interfaces.core.transform.TransformContext;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serializes the renders of a view.
+ * <p>
+ * At most one render runs at a time. Render requests made while a render is in flight are collapsed into
+ * a single pending render, which is started once the current render has completed: the pending render is
+ * a full render if any of the collapsed requests was, and otherwise covers the union of the changed
+ * properties of the collapsed requests. Transforms requested to be refreshed are always unioned, as they
+ * are not covered by a full render. This caps every view to one render in flight and one pending
+ * render, regardless of how often updates are requested.
+ */
+public final class RenderMailbox {
+
+    private final @NonNull Renderer renderer;
+
+    private boolean running;
+    private boolean pending;
+    private boolean pendingFull;
+    private @NonNull Set<@NonNull InterfaceProperty<?>> pendingProperties = new HashSet<>();
+    private @NonNull Set<@NonNull TransformContext<?, ?>> pendingTransforms = new HashSet<>();
+
+    /**
+     * Constructs {@code RenderMailbox}.
+     *
+     * @param renderer the function performing the renders
+     */
+    public RenderMailbox(final @NonNull Renderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Requests a full render.
+     */
+    public void request() {
+        this.request(true, Collections.emptySet(), Collections.emptySet());
+    }
+
+    /**
+     * Requests a render of the parts of the view that depend on the given properties.
+     *
+     * @param properties the changed properties
+     */
+    public void request(final @NonNull Set<@NonNull InterfaceProperty<?>> properties) {
+        this.request(false, properties, Collections.emptySet());
+    }
+
+    /**
+     * Requests a render that refreshes the given transforms.
+     *
+     * @param transforms the transforms to refresh
+     */
+    public void refresh(final @NonNull Set<@NonNull TransformContext<?, ?>> transforms) {
+        this.request(false, Collections.emptySet(), transforms);
+    }
+
+    /**
+     * Returns whether a render is in flight.
+     *
+     * @return true if a render is in flight, false if not
+     */
+    public synchronized boolean rendering() {
+        return this.running;
+    }
+
+    private void request(
+            final boolean full,
+            final @NonNull Set<@NonNull InterfaceProperty<?>> properties,
+            final @NonNull Set<@NonNull TransformContext<?, ?>> transforms
+    ) {
+        synchronized (this) {
+            if (this.running) {
+                this.pending = true;
+                this.pendingFull |= full;
+
+                if (!this.pendingFull) {
+                    this.pendingProperties.addAll(properties);
+                }
+
+                this.pendingTransforms.addAll(transforms);
+                return;
+            }
+
+            this.running = true;
+        }
+
+        this.drain(new Request(full, properties, transforms));
+    }
+
+    private void drain(final @NonNull Request initial) {
+        Request request = initial;
+
+        // Renders that complete immediately are followed up in this loop, rather than recursively.
+        while (true) {
+            final CompletableFuture<?> render = this.render(request);
+
+            if (!render.isDone()) {
+                render.whenComplete((result, throwable) -> this.next());
+                return;
+            }
+
+            synchronized (this) {
+                if (!this.pending) {
+                    this.running = false;
+                    return;
+                }
+
+                request = this.takePending();
+            }
+        }
+    }
+
+    private void next() {
+        final Request request;
+
+        synchronized (this) {
+            if (!this.pending) {
+                this.running = false;
+                return;
+            }
+
+            request = this.takePending();
+        }
+
+        this.drain(request);
+    }
+
+    private @NonNull Request takePending() {
+        final Request request = new Request(this.pendingFull, this.pendingProperties, this.pendingTransforms);
+
+        this.pending = false;
+        this.pendingFull = false;
+        this.pendingProperties = new HashSet<>();
+        this.pendingTransforms = new HashSet<>();
+
+        return request;
+    }
+
+    private @NonNull CompletableFuture<?> render(final @NonNull Request request) {
+        try {
+            final @Nullable CompletableFuture<?> render = this.renderer.render(
+                    request.full,
+                    request.properties,
+                    request.transforms
+            );
+            return render == null ? CompletableFuture.completedFuture(null) : render;
+        } catch (final RuntimeException e) {
+            // The renderer is responsible for reporting its failures, the mailbox only has to move on.
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Performs the renders of a {@link RenderMailbox}.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+
+        /**
+         * Renders the view.
+         *
+         * @param full       whether the whole view should be rendered
+         * @param properties the changed properties, if this is not a full render
+         * @param transforms the transforms to refresh
+         * @return a future completed once the render has been applied
+         */
+        @NonNull CompletableFuture<?> render(
+                boolean full,
+                @NonNull Set<@NonNull InterfaceProperty<?>> properties,
+                @NonNull Set<@NonNull TransformContext<?, ?>> transforms
+        );
+
+    }
+
+    private static final class Request {
+
+        private final boolean full;
+        private final @NonNull Set<@NonNull InterfaceProperty<?>> properties;
+        private final @NonNull Set<@NonNull TransformContext<?, ?>> transforms;
+
+        private Request(
+                final boolean full,
+                final @NonNull Set<@NonNull InterfaceProperty<?>> properties,
+                final @NonNull Set<@NonNull TransformContext<?, ?>> transforms
+        ) {
+            this.full = full;
+            this.properties = properties;
+            this.transforms = transforms;
+        }
+
+    }
+
+}
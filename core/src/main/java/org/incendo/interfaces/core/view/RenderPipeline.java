@@ -0,0 +1,355 @@
+package org.incendo.interfaces.core.view;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.pane.Pane;
+import org.incendo.interfaces.core.pane.PaneLayers;
+import org.incendo.interfaces.core.transform.InterfaceProperty;
+import org.incendo.interfaces.core.transform.Transform;
+import org.incendo.interfaces.core.transform.TransformContext;
+import org.incendo.interfaces.core.transform.TransformMemo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Renders the transforms of a view in place.
+ * <p>
+ * Every transform is applied to the {@link PaneLayers#blank() blank pane} and stacked as a layer of its
+ * own, so a render only has to re-apply the transforms whose output may have changed: a full render
+ * re-applies the stale transforms, and a render by properties re-applies the transforms depending on
+ * the changed properties. Asynchronous transforms are run on the given executor. Renders are serialized
+ * through a {@link RenderMailbox}. Re-applying a transform cancels its task from an older render, while
+ * the tasks of transforms a newer render does not re-apply keep running and are patched in once they
+ * complete. A task is not restarted by refreshes or full renders while the properties it was applied
+ * with are unchanged, so that a slow transform is not starved by frequent renders.
+ * <p>
+ * Once a render has completed, the view is asked to {@link Target#commit() commit} the merged pane, for
+ * example by writing the changed slots into an inventory. Transforms that miss their
+ * {@link Transform#deadline() deadline} are committed on their own once they complete.
+ * <p>
+ * As every transform is stacked as a layer of its own, the pipeline only suits views whose transforms
+ * are independent of each other. Views that apply every transform to the pane returned by the previous
+ * transform, such as player inventory views, re-apply all of their transforms instead.
+ *
+ * @param <T> the pane type
+ * @param <U> the viewer type
+ */
+public final class RenderPipeline<T extends Pane, U extends InterfaceViewer> {
+
+    private final @NonNull InterfaceView<T, U> view;
+    private final @NonNull PaneLayers<T> layers;
+    private final @NonNull Executor executor;
+    private final @NonNull Target target;
+
+    private final @NonNull TransformMemo<T, U> memo = new TransformMemo<>();
+    private final @NonNull RenderMailbox mailbox = new RenderMailbox(this::render);
+    private final @NonNull RenderGeneration generations = new RenderGeneration();
+    private final @NonNull Map<@NonNull TransformContext<T, U>, long @NonNull []> running = new ConcurrentHashMap<>();
+    private final @NonNull Map<@NonNull TransformContext<T, U>, @NonNull Long> refreshed = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs {@code RenderPipeline}.
+     *
+     * @param view     the view rendered by the pipeline
+     * @param layers   the layers the transforms are stacked in
+     * @param executor the executor to run asynchronous transforms on
+     * @param target   the target committing the rendered panes
+     */
+    public RenderPipeline(
+            final @NonNull InterfaceView<T, U> view,
+            final @NonNull PaneLayers<T> layers,
+            final @NonNull Executor executor,
+            final @NonNull Target target
+    ) {
+        this.view = view;
+        this.layers = layers;
+        this.executor = executor;
+        this.target = target;
+    }
+
+    /**
+     * Applies every transform of the view, for the first time the view is shown.
+     * <p>
+     * The pane is not committed, as the view is expected to show the returned pane itself. If the
+     * pipeline is progressive, asynchronous transforms are not waited for: their placeholders are
+     * shown instead, and the transforms are committed once they complete. Renders started in the
+     * meantime do not cancel the pending transforms, unless they re-apply them.
+     *
+     * @param progressive whether asynchronous transforms should not be waited for
+     * @return a future completed with the merged pane
+     */
+    public @NonNull CompletableFuture<T> open(final boolean progressive) {
+        final long generation = this.generations.next();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (final TransformContext<T, U> transformContext : this.view.backing().transformations()) {
+            futures.add(this.apply(transformContext, generation, progressive));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> this.layers.pane())
+                .exceptionally(throwable -> {
+                    if (!RenderGeneration.cancelled(throwable)) {
+                        throw throwable instanceof CompletionException
+                                ? (CompletionException) throwable
+                                : new CompletionException(throwable);
+                    }
+                    // A newer render re-applies the cancelled transforms, or the view has been closed.
+                    return this.layers.pane();
+                });
+    }
+
+    /**
+     * Requests a render of every stale transform.
+     */
+    public void update() {
+        this.mailbox.request();
+    }
+
+    /**
+     * Requests a render of the transforms that depend on the given properties.
+     *
+     * @param changed the changed properties
+     */
+    public void refresh(final @NonNull Set<@NonNull InterfaceProperty<?>> changed) {
+        this.mailbox.request(changed);
+    }
+
+    /**
+     * Requests a render of the given transforms, regardless of whether they are stale.
+     *
+     * @param transforms the transforms
+     */
+    public void refreshTransforms(final @NonNull Set<@NonNull TransformContext<?, ?>> transforms) {
+        this.mailbox.refresh(transforms);
+    }
+
+    /**
+     * Returns the amount of ticks between calls to {@link #tickRefresh(long)}.
+     * <p>
+     * Every {@link TransformContext#refreshInterval() refresh interval} of the transforms of the view is a
+     * multiple of the returned interval, so that no refresh is missed.
+     *
+     * @return the amount of ticks, or {@code 0} if the view has no transforms with a refresh interval
+     */
+    public int refreshInterval() {
+        int interval = 0;
+
+        for (final TransformContext<T, U> transformContext : this.view.backing().transformations()) {
+            if (transformContext.refreshInterval() > 0) {
+                interval = gcd(interval, transformContext.refreshInterval());
+            }
+        }
+
+        return interval;
+    }
+
+    /**
+     * Requests a render of the transforms whose refresh interval has passed since they were last refreshed.
+     *
+     * @param elapsed the amount of ticks since the refreshes of the view were scheduled
+     */
+    public void tickRefresh(final long elapsed) {
+        final Set<TransformContext<?, ?>> due = new HashSet<>();
+
+        for (final TransformContext<T, U> transformContext : this.view.backing().transformations()) {
+            final int interval = transformContext.refreshInterval();
+
+            if (interval > 0 && elapsed - this.refreshed.getOrDefault(transformContext, 0L) >= interval) {
+                due.add(transformContext);
+                this.refreshed.put(transformContext, elapsed);
+            }
+        }
+
+        if (!due.isEmpty()) {
+            this.refreshTransforms(due);
+        }
+    }
+
+    /**
+     * Cancels every render in flight, for example because the view has been closed.
+     */
+    public void cancel() {
+        this.generations.cancel();
+        this.running.clear();
+        this.refreshed.clear();
+    }
+
+    /**
+     * Returns the merged pane, which includes the layers of every completed transform.
+     *
+     * @return the merged pane
+     */
+    public @NonNull T pane() {
+        return this.layers.pane();
+    }
+
+    private @NonNull CompletableFuture<?> render(
+            final boolean full,
+            final @NonNull Set<@NonNull InterfaceProperty<?>> properties,
+            final @NonNull Set<@NonNull TransformContext<?, ?>> refreshing
+    ) {
+        final long generation = this.generations.next();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (final TransformContext<T, U> transformContext : this.view.backing().transformations()) {
+            final boolean render = full
+                    // Transforms are only re-applied if their output may have changed
+                    ? this.memo.stale(transformContext)
+                    : !Collections.disjoint(transformContext.properties(), properties);
+
+            if ((render || refreshing.contains(transformContext)) && !this.running(transformContext)) {
+                futures.add(this.apply(transformContext, generation, false));
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenCompose(ignored -> {
+            // Discard the render if a newer render has started since.
+            if (!this.generations.current(generation)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return this.target.commit();
+        }).whenComplete((result, throwable) -> {
+            if (throwable == null || RenderGeneration.cancelled(throwable)) {
+                return;
+            }
+            this.target.failed(full ? "Failed to update interface" : "Failed to update interface by property", throwable);
+        });
+    }
+
+    private boolean running(final @NonNull TransformContext<T, U> transformContext) {
+        // A task applied with the current versions of its properties renders the same output, and is patched
+        // in once it completes, so it is left running rather than restarted.
+        return Arrays.equals(this.running.get(transformContext), this.memo.versions(transformContext));
+    }
+
+    private @NonNull CompletableFuture<T> apply(
+            final @NonNull TransformContext<T, U> transformContext,
+            final long generation,
+            final boolean progressive
+    ) {
+        final Transform<T, U> transform = transformContext.transform();
+        final long[] versions = this.memo.versions(transformContext);
+        final CompletableFuture<T> future;
+        if (transform.async()) {
+            this.running.put(transformContext, versions);
+            future = this.generations.supplyAsync(
+                    transformContext,
+                    generation,
+                    () -> transform.apply(this.layers.blank(), this.view),
+                    this.executor
+            );
+        } else {
+            this.generations.start(transformContext, generation);
+            future = CompletableFuture.completedFuture(transform.apply(this.layers.blank(), this.view));
+        }
+        // Set once the render has stopped waiting for the transform.
+        final AtomicBoolean late = new AtomicBoolean();
+        final CompletableFuture<T> applied = future.whenComplete((pane, throwable) -> {
+            this.running.remove(transformContext, versions);
+            if (RenderGeneration.cancelled(throwable)) {
+                return;
+            }
+            if (throwable != null) {
+                this.target.failed("Failed to apply transformation", throwable);
+                return;
+            }
+            if (!this.generations.current(transformContext, generation)) {
+                // A newer render has re-applied the transform, and only its result is shown.
+                return;
+            }
+            synchronized (late) {
+                this.layers.layer(transformContext, transformContext.priority(), pane);
+                this.memo.applied(transformContext, versions);
+            }
+            if (late.get() || !this.generations.current(generation)) {
+                // The render has stopped waiting for the transform, or a newer render that did not re-apply
+                // it may have been committed already, so the layer is patched in on its own.
+                this.target.commit();
+            }
+        });
+
+        if (progressive && !applied.isDone()) {
+            // The view is shown with the placeholder, and the transform is patched in once it completes.
+            this.missedDeadline(transformContext, generation, future, late);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Duration deadline = transformContext.deadline();
+        if (deadline == null || applied.isDone()) {
+            return applied;
+        }
+
+        return applied.copy()
+                .completeOnTimeout(null, deadline.toNanos(), TimeUnit.NANOSECONDS)
+                .thenApply(pane -> {
+                    if (pane == null) {
+                        this.missedDeadline(transformContext, generation, future, late);
+                    }
+                    return pane;
+                });
+    }
+
+    private void missedDeadline(
+            final @NonNull TransformContext<T, U> transformContext,
+            final long generation,
+            final @NonNull CompletableFuture<T> future,
+            final @NonNull AtomicBoolean late
+    ) {
+        final Transform<T, U> placeholder = transformContext.placeholder();
+
+        synchronized (late) {
+            late.set(true);
+
+            // Do not cover a transform that has completed in the meantime.
+            if (placeholder == null || future.isDone() || !this.generations.current(transformContext, generation)) {
+                return;
+            }
+
+            this.layers.layer(
+                    transformContext,
+                    transformContext.priority(),
+                    placeholder.apply(this.layers.blank(), this.view)
+            );
+        }
+    }
+
+    private static int gcd(final int a, final int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Shows the panes rendered by a {@link RenderPipeline}.
+     */
+    public interface Target {
+
+        /**
+         * Shows the {@link RenderPipeline#pane() merged pane} of the pipeline to the viewer.
+         *
+         * @return a future completed once the pane has been shown
+         */
+        @NonNull CompletableFuture<?> commit();
+
+        /**
+         * Reports a failed render.
+         *
+         * @param message   the description of the failure
+         * @param throwable the cause of the failure
+         */
+        void failed(@NonNull String message, @NonNull Throwable throwable);
+
+    }
+
+}
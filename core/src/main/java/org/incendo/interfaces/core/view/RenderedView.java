@@ -0,0 +1,42 @@
+package org.incendo.interfaces.core.view;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.pane.Pane;
+import org.incendo.interfaces.core.transform.InterfaceProperty;
+
+import java.util.Set;
+
+/**
+ * A view that is rendered in place by a {@link RenderPipeline}, rather than reopened to be updated.
+ *
+ * @param <T> the type of pane this view can view
+ * @param <U> the viewer type
+ */
+public interface RenderedView<T extends Pane, U extends InterfaceViewer> extends InterfaceView<T, U> {
+
+    /**
+     * Returns the pipeline rendering this view.
+     *
+     * @return the render pipeline
+     */
+    @NonNull RenderPipeline<T, U> pipeline();
+
+    /**
+     * Re-renders the stale transforms of this view in place.
+     */
+    @Override
+    default void update() {
+        this.pipeline().update();
+    }
+
+    /**
+     * Re-renders the transforms of this view that depend on the changed properties in place.
+     *
+     * @param changed the changed properties
+     */
+    @Override
+    default void refresh(final @NonNull Set<@NonNull InterfaceProperty<?>> changed) {
+        this.pipeline().refresh(changed);
+    }
+
+}
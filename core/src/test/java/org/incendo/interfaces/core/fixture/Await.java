@@ -0,0 +1,39 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for asynchronous work to settle.
+ */
+public final class Await {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private Await() {
+    }
+
+    /**
+     * Waits until the given condition holds.
+     *
+     * @param description the description of the condition
+     * @param condition   the condition
+     */
+    public static void until(final @NonNull String description, final @NonNull BooleanSupplier condition) {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting until " + description);
+            }
+            try {
+                Thread.sleep(1);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted waiting until " + description, e);
+            }
+        }
+    }
+
+}
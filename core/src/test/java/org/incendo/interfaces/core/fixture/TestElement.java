@@ -0,0 +1,37 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.element.Element;
+
+/**
+ * A named element.
+ */
+public final class TestElement implements Element {
+
+    /**
+     * The transparent element, which fills blank panes.
+     */
+    public static final @NonNull TestElement EMPTY = new TestElement("empty");
+
+    private final @NonNull String name;
+
+    private TestElement(final @NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a new element with the given name.
+     *
+     * @param name the name
+     * @return the element
+     */
+    public static @NonNull TestElement of(final @NonNull String name) {
+        return new TestElement(name);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return this.name;
+    }
+
+}
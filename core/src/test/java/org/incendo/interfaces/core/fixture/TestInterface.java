@@ -0,0 +1,62 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.Interface;
+import org.incendo.interfaces.core.arguments.InterfaceArguments;
+import org.incendo.interfaces.core.transform.Transform;
+import org.incendo.interfaces.core.transform.TransformContext;
+import org.incendo.interfaces.core.view.InterfaceView;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An interface whose views are constructed by the tests themselves.
+ */
+public final class TestInterface implements Interface<TestPane, TestViewer> {
+
+    private final @NonNull List<TransformContext<TestPane, TestViewer>> transformations = new CopyOnWriteArrayList<>();
+
+    /**
+     * Adds a transform.
+     *
+     * @param transformContext the transform
+     * @return this interface
+     */
+    public @NonNull TestInterface transform(final @NonNull TransformContext<TestPane, TestViewer> transformContext) {
+        this.transformations.add(transformContext);
+        return this;
+    }
+
+    @Override
+    public @NonNull TestInterface transform(final @NonNull Transform<TestPane, TestViewer> transform) {
+        return this.transform(TransformContext.of(1, transform));
+    }
+
+    @Override
+    public @NonNull List<TransformContext<TestPane, TestViewer>> transformations() {
+        return List.copyOf(this.transformations);
+    }
+
+    @Override
+    public @NonNull InterfaceView<TestPane, TestViewer> open(final @NonNull TestViewer viewer) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NonNull InterfaceView<TestPane, TestViewer> open(
+            final @NonNull TestViewer viewer,
+            final @NonNull InterfaceArguments arguments
+    ) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NonNull InterfaceView<TestPane, TestViewer> open(
+            final @NonNull InterfaceView<?, TestViewer> view,
+            final @NonNull InterfaceArguments arguments
+    ) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.pane.ArrayGridPane;
+
+import java.util.BitSet;
+
+/**
+ * A single row pane of {@link TestElement}s.
+ */
+public final class TestPane extends ArrayGridPane<TestPane, TestElement> {
+
+    /**
+     * Constructs an empty {@code TestPane}.
+     *
+     * @param size the amount of slots
+     */
+    public TestPane(final int size) {
+        super(size, 1, TestElement.EMPTY);
+    }
+
+    private TestPane(
+            final @NonNull TestPane source,
+            final @NonNull Element @NonNull [] elements,
+            final @Nullable BitSet changes
+    ) {
+        super(source, elements, changes);
+    }
+
+    @Override
+    protected @NonNull TestPane copy(final @NonNull Element @NonNull [] elements, final @NonNull BitSet changes) {
+        return new TestPane(this, elements, changes);
+    }
+
+}
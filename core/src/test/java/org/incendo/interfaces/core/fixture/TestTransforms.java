@@ -0,0 +1,62 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.transform.Transform;
+import org.incendo.interfaces.core.view.InterfaceView;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Transforms used by the tests.
+ */
+public final class TestTransforms {
+
+    private TestTransforms() {
+    }
+
+    /**
+     * Returns a transform placing the supplied element in the given slot.
+     *
+     * @param slot    the slot
+     * @param element the element supplier
+     * @return the transform
+     */
+    public static @NonNull Transform<TestPane, TestViewer> fill(final int slot, final @NonNull Supplier<TestElement> element) {
+        return (pane, view) -> pane.element(slot, element.get());
+    }
+
+    /**
+     * Returns an asynchronous transform placing the supplied element in the given slot, once the gate
+     * has been opened.
+     *
+     * @param slot    the slot
+     * @param element the element supplier
+     * @param gate    the gate, which is read when the transform is applied
+     * @return the transform
+     */
+    public static @NonNull Transform<TestPane, TestViewer> gated(
+            final int slot,
+            final @NonNull Supplier<TestElement> element,
+            final @NonNull Supplier<CountDownLatch> gate
+    ) {
+        return new Transform<>() {
+            @Override
+            public TestPane apply(final TestPane pane, final InterfaceView<TestPane, TestViewer> view) {
+                try {
+                    gate.get().await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("The transform was interrupted.", e);
+                }
+                return pane.element(slot, element.get());
+            }
+
+            @Override
+            public boolean async() {
+                return true;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.arguments.HashMapInterfaceArguments;
+import org.incendo.interfaces.core.arguments.InterfaceArguments;
+import org.incendo.interfaces.core.pane.PaneCompositor;
+import org.incendo.interfaces.core.view.RenderPipeline;
+import org.incendo.interfaces.core.view.RenderedView;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A view rendered by a {@link RenderPipeline}, which records its commits instead of displaying them.
+ */
+public final class TestView implements RenderedView<TestPane, TestViewer> {
+
+    private final @NonNull TestInterface backing;
+    private final @NonNull TestViewer viewer = new TestViewer();
+    private final @NonNull RenderPipeline<TestPane, TestViewer> pipeline;
+    private final @NonNull AtomicInteger commits = new AtomicInteger();
+    private final @NonNull List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+    private volatile @NonNull TestPane pane;
+
+    /**
+     * Constructs {@code TestView}.
+     *
+     * @param backing  the interface
+     * @param size     the amount of slots
+     * @param executor the executor to run asynchronous transforms on
+     */
+    public TestView(final @NonNull TestInterface backing, final int size, final @NonNull Executor executor) {
+        this.backing = backing;
+        this.pane = new TestPane(size);
+        this.pipeline = new RenderPipeline<>(
+                this,
+                new PaneCompositor<>(this.pane, TestElement.EMPTY::equals),
+                executor,
+                new RenderPipeline.Target() {
+                    @Override
+                    public @NonNull CompletableFuture<?> commit() {
+                        TestView.this.pane = TestView.this.pipeline.pane();
+                        TestView.this.commits.incrementAndGet();
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    @Override
+                    public void failed(final @NonNull String message, final @NonNull Throwable throwable) {
+                        TestView.this.failures.add(throwable);
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns the amount of commits.
+     *
+     * @return the amount of commits
+     */
+    public int commits() {
+        return this.commits.get();
+    }
+
+    /**
+     * Returns the reported failures.
+     *
+     * @return the failures
+     */
+    public @NonNull List<Throwable> failures() {
+        return this.failures;
+    }
+
+    /**
+     * Returns the name of the committed element in the given slot.
+     *
+     * @param slot the slot
+     * @return the name
+     */
+    public @NonNull String committed(final int slot) {
+        return this.pane.element(slot).toString();
+    }
+
+    @Override
+    public @NonNull RenderPipeline<TestPane, TestViewer> pipeline() {
+        return this.pipeline;
+    }
+
+    @Override
+    public @NonNull TestInterface backing() {
+        return this.backing;
+    }
+
+    @Override
+    public @NonNull InterfaceArguments arguments() {
+        return HashMapInterfaceArguments.empty();
+    }
+
+    @Override
+    public @NonNull TestViewer viewer() {
+        return this.viewer;
+    }
+
+    @Override
+    public boolean viewing() {
+        return true;
+    }
+
+    @Override
+    public @NonNull TestPane pane() {
+        return this.pane;
+    }
+
+    @Override
+    public void open() {
+        this.pipeline.open(false).thenAccept(pane -> this.pane = pane);
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.incendo.interfaces.core.fixture;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.core.view.InterfaceViewer;
+
+/**
+ * A viewer that does not display anything.
+ */
+public final class TestViewer implements InterfaceViewer {
+
+    @Override
+    public void open(final @NonNull InterfaceView<?, ?> pane) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
@@ -0,0 +1,124 @@
+package org.incendo.interfaces.core.pane;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.fixture.TestElement;
+import org.incendo.interfaces.core.util.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GridPaneTest {
+
+    @Test
+    void defaultEditAppliesEveryChange() {
+        final MapPane pane = new MapPane(Map.of());
+
+        final MapPane edited = pane.edit(mutable -> mutable
+                .element(TestElement.of("a"), 0, 0)
+                .element(TestElement.of("b"), 1, 2)
+                .fill(Vector2.at(3, 0), Vector2.at(4, 0), TestElement.of("c")));
+
+        assertEquals("a", edited.element(0, 0).toString());
+        assertEquals("b", edited.element(1, 2).toString());
+        assertEquals("c", edited.element(3, 0).toString());
+        assertEquals("c", edited.element(4, 0).toString());
+        assertEquals(TestElement.EMPTY, pane.element(0, 0));
+    }
+
+    @Test
+    void defaultEditFillsTheWholeGrid() {
+        final MapPane pane = new MapPane(Map.of());
+
+        final MapPane edited = pane.edit(mutable -> mutable
+                .fill(TestElement.of("a"))
+                .row(1, TestElement.of("b"))
+                .column(4, TestElement.of("c")));
+
+        assertEquals("a", edited.element(0, 0).toString());
+        assertEquals("b", edited.element(0, 1).toString());
+        assertEquals("c", edited.element(4, 1).toString());
+        assertEquals("c", edited.element(4, MapPane.HEIGHT - 1).toString());
+        assertEquals(MapPane.WIDTH * MapPane.HEIGHT, edited.elements().size());
+    }
+
+    @Test
+    void defaultEditReadsItsOwnChanges() {
+        final MapPane pane = new MapPane(Map.of(Vector2.at(0, 0), TestElement.of("a")));
+
+        pane.edit(mutable -> {
+            assertEquals("a", mutable.element(0, 0).toString());
+            mutable.element(TestElement.of("b"), 0, 0);
+            assertEquals("b", mutable.element(0, 0).toString());
+        });
+    }
+
+    @Test
+    void defaultEditWithoutChangesReturnsThisPane() {
+        final MapPane pane = new MapPane(Map.of());
+
+        assertSame(pane, pane.edit(mutable -> mutable.element(0, 0)));
+    }
+
+    @Test
+    void defaultEditRejectsChangesAfterItReturned() {
+        final MapPane pane = new MapPane(Map.of());
+        final AtomicReference<MutableGridPane<TestElement>> leaked = new AtomicReference<>();
+
+        pane.edit(leaked::set);
+
+        assertThrows(IllegalStateException.class, () -> leaked.get().element(TestElement.of("a"), 0, 0));
+    }
+
+    /**
+     * A grid pane that relies on the default edit.
+     */
+    private static final class MapPane implements GridPane<MapPane, TestElement> {
+
+        private static final int WIDTH = 5;
+        private static final int HEIGHT = 3;
+
+        private final Map<Vector2, TestElement> elements;
+
+        private MapPane(final Map<Vector2, TestElement> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public @NonNull MapPane element(final @NonNull TestElement element, final int x, final int y) {
+            final Map<Vector2, TestElement> elements = new HashMap<>(this.elements);
+            elements.put(Vector2.at(x, y), element);
+            return new MapPane(elements);
+        }
+
+        @Override
+        public @NonNull TestElement element(final int x, final int y) {
+            return this.elements.getOrDefault(Vector2.at(x, y), TestElement.EMPTY);
+        }
+
+        @Override
+        public int width() {
+            return WIDTH;
+        }
+
+        @Override
+        public int height() {
+            return HEIGHT;
+        }
+
+        @Override
+        public @NonNull Collection<Element> elements() {
+            return new ArrayList<>(this.elements.values());
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.incendo.interfaces.core.pane;
+
+import org.incendo.interfaces.core.fixture.TestElement;
+import org.incendo.interfaces.core.fixture.TestPane;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaneCompositorTest {
+
+    private final TestPane blank = new TestPane(4);
+    private final PaneCompositor<TestPane, TestElement> compositor = new PaneCompositor<>(this.blank, TestElement.EMPTY::equals);
+
+    @Test
+    void higherPrioritiesAreStackedOnTop() {
+        this.compositor.layer("high", 2, this.blank.element(0, TestElement.of("high")));
+        this.compositor.layer("low", 1, this.blank.element(0, TestElement.of("low")).element(1, TestElement.of("low")));
+
+        final TestPane pane = this.compositor.pane();
+
+        assertEquals("high", pane.element(0).toString());
+        assertEquals("low", pane.element(1).toString());
+        assertSame(TestElement.EMPTY, pane.element(2));
+    }
+
+    @Test
+    void clearedSlotsRevealTheLayerBelow() {
+        this.compositor.layer("low", 1, this.blank.element(0, TestElement.of("low")));
+        this.compositor.layer("high", 2, this.blank.element(0, TestElement.of("high")));
+        assertEquals("high", this.compositor.pane().element(0).toString());
+
+        this.compositor.layer("high", 2, this.blank);
+
+        assertEquals("low", this.compositor.pane().element(0).toString());
+    }
+
+    @Test
+    void replacedLayerKeepsItsPriority() {
+        this.compositor.layer("low", 1, this.blank.element(0, TestElement.of("low")));
+        this.compositor.layer("high", 2, this.blank.element(0, TestElement.of("high")));
+
+        this.compositor.layer("low", 5, this.blank.element(0, TestElement.of("replaced")));
+
+        assertEquals("high", this.compositor.pane().element(0).toString());
+    }
+
+    @Test
+    void mergedPaneOnlyChangesInAffectedSlots() {
+        final TestElement element = TestElement.of("a");
+        this.compositor.layer("layer", 1, this.blank.element(0, element));
+        final TestPane first = this.compositor.pane();
+
+        this.compositor.layer("layer", 1, this.blank.element(0, element).element(3, TestElement.of("b")));
+        final TestPane second = this.compositor.pane();
+
+        final BitSet expected = new BitSet();
+        expected.set(3);
+        assertEquals(expected, PaneDiff.diff(first, second));
+        assertSame(second, this.compositor.pane());
+    }
+
+    @Test
+    void unchangedCompositorReturnsTheSamePane() {
+        assertSame(this.blank, this.compositor.pane());
+
+        this.compositor.layer("layer", 1, this.blank);
+
+        assertSame(this.blank, this.compositor.pane());
+    }
+
+    @Test
+    void layersMustMatchTheBlankPane() {
+        assertThrows(IllegalArgumentException.class, () -> this.compositor.layer("layer", 1, new TestPane(5)));
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.incendo.interfaces.core.pane;
+
+import org.incendo.interfaces.core.fixture.TestElement;
+import org.incendo.interfaces.core.fixture.TestPane;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaneDiffTest {
+
+    private final TestPane blank = new TestPane(6);
+
+    @Test
+    void samePaneHasNoChanges() {
+        assertTrue(PaneDiff.diff(this.blank, this.blank).isEmpty());
+    }
+
+    @Test
+    void everySlotChangesWithoutPreviousPane() {
+        assertEquals(slots(0, 1, 2, 3, 4, 5), PaneDiff.diff(null, this.blank));
+    }
+
+    @Test
+    void derivedPaneOnlyChangesInWrittenSlots() {
+        final TestPane next = this.blank.element(2, TestElement.of("a")).element(4, TestElement.of("b"));
+
+        assertEquals(slots(2, 4), PaneDiff.diff(this.blank, next));
+        assertEquals(slots(2, 4), PaneDiff.diff(next, this.blank));
+    }
+
+    @Test
+    void siblingsChangeWhereEitherWasWritten() {
+        final TestPane first = this.blank.element(1, TestElement.of("a"));
+        final TestPane second = this.blank.element(3, TestElement.of("b"));
+
+        assertEquals(slots(1, 3), PaneDiff.diff(first, second));
+    }
+
+    @Test
+    void slotsRewrittenWithTheSameElementAreUnchanged() {
+        final TestElement element = TestElement.of("a");
+        final TestPane first = this.blank.element(1, element);
+        final TestPane second = this.blank.element(1, element).element(2, TestElement.of("b"));
+
+        assertEquals(slots(2), PaneDiff.diff(first, second));
+    }
+
+    @Test
+    void unrelatedPanesAreComparedSlotBySlot() {
+        final TestElement element = TestElement.of("a");
+        final TestPane first = new TestPane(6).element(0, element);
+        final TestPane second = new TestPane(6).element(0, element).element(5, TestElement.of("b"));
+
+        assertEquals(slots(5), PaneDiff.diff(first, second));
+    }
+
+    @Test
+    void diffIsLimitedToTheRange() {
+        final TestPane next = this.blank.element(0, TestElement.of("a")).element(3, TestElement.of("b"));
+
+        assertEquals(slots(3), PaneDiff.diff(this.blank, next, 2, 6));
+        assertEquals(slots(2, 3), PaneDiff.diff(null, next, 2, 4));
+    }
+
+    @Test
+    void panesOfDifferentSizesDifferEverywhere() {
+        assertEquals(slots(0, 1, 2), PaneDiff.diff(new TestPane(3), this.blank, 0, 3));
+    }
+
+    private static BitSet slots(final int... slots) {
+        final BitSet bits = new BitSet();
+
+        for (final int slot : slots) {
+            bits.set(slot);
+        }
+
+        return bits;
+    }
+
+}
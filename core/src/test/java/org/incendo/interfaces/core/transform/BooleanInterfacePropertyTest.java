@@ -0,0 +1,43 @@
+package org.incendo.interfaces.core.transform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BooleanInterfacePropertyTest {
+
+    private final Object reference = new Object();
+
+    @Test
+    void toggleInvertsTheValueAndNotifies() {
+        final BooleanInterfaceProperty property = InterfaceProperty.ofBoolean(false);
+        final List<Boolean> values = new ArrayList<>();
+        property.addListener(this.reference, (reference, oldValue, newValue) -> values.add(newValue));
+
+        assertTrue(property.toggle());
+        assertFalse(property.toggle());
+
+        assertEquals(List.of(true, false), values);
+        assertFalse(property.getBoolean());
+    }
+
+    @Test
+    void compareAndSetOnlyUpdatesTheExpectedValue() {
+        final BooleanInterfaceProperty property = InterfaceProperty.ofBoolean(false);
+        final List<Boolean> values = new ArrayList<>();
+        property.addListener(this.reference, (reference, oldValue, newValue) -> values.add(newValue));
+
+        assertFalse(property.compareAndSet(true, false));
+        assertTrue(property.compareAndSet(false, true));
+        assertTrue(property.compareAndSet(true, true));
+
+        assertEquals(List.of(true), values);
+        assertTrue(property.getBoolean());
+    }
+
+}
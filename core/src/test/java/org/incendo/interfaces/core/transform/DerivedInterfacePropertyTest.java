@@ -0,0 +1,88 @@
+package org.incendo.interfaces.core.transform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DerivedInterfacePropertyTest {
+
+    private final Object reference = new Object();
+
+    @Test
+    void listenersAreNotifiedWhenTheValueChanges() {
+        final InterfaceProperty<Integer> source = InterfaceProperty.of(1);
+        final InterfaceProperty<Integer> doubled = source.map(value -> value * 2);
+        final List<String> changes = new ArrayList<>();
+        doubled.addListener(this.reference, (reference, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        source.set(2);
+
+        assertEquals(List.of("2->4"), changes);
+    }
+
+    @Test
+    void listenersAreNotNotifiedWhenTheValueIsUnchanged() {
+        final InterfaceProperty<Integer> source = InterfaceProperty.of(1);
+        final InterfaceProperty<Boolean> positive = source.map(value -> value > 0);
+        final List<Boolean> values = new ArrayList<>();
+        positive.addListener(this.reference, (reference, oldValue, newValue) -> values.add(newValue));
+
+        source.set(2);
+
+        assertTrue(values.isEmpty());
+    }
+
+    @Test
+    void readBeforeTheNotificationDoesNotSwallowIt() {
+        final InterfaceProperty<Integer> source = InterfaceProperty.of(1);
+        final List<Integer> reads = new ArrayList<>();
+        final List<InterfaceProperty<Integer>> derived = new ArrayList<>();
+        // Registered before the derived property subscribes to the source, so this listener runs first.
+        source.addListener(this.reference, (reference, oldValue, newValue) -> reads.add(derived.get(0).get()));
+
+        final InterfaceProperty<Integer> doubled = source.map(value -> value * 2);
+        derived.add(doubled);
+        final List<String> changes = new ArrayList<>();
+        doubled.addListener(this.reference, (reference, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        source.set(2);
+
+        assertEquals(List.of(4), reads);
+        assertEquals(List.of("2->4"), changes);
+    }
+
+    @Test
+    void readInsideATransactionDoesNotSwallowTheNotification() {
+        final InterfaceProperty<Integer> source = InterfaceProperty.of(1);
+        final InterfaceProperty<Integer> doubled = source.map(value -> value * 2);
+        final List<String> changes = new ArrayList<>();
+        doubled.addListener(this.reference, (reference, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        InterfaceProperty.transaction(() -> {
+            source.set(2);
+            assertEquals(4, doubled.get());
+        });
+
+        assertEquals(List.of("2->4"), changes);
+    }
+
+    @Test
+    void changesMadeWithoutListenersAreNotReplayed() {
+        final InterfaceProperty<Integer> source = InterfaceProperty.of(1);
+        final InterfaceProperty<Integer> doubled = source.map(value -> value * 2);
+
+        source.set(2);
+        assertEquals(4, doubled.get());
+
+        final List<String> changes = new ArrayList<>();
+        doubled.addListener(this.reference, (reference, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        source.set(3);
+
+        assertEquals(List.of("4->6"), changes);
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.incendo.interfaces.core.transform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowInterfacePropertyTest {
+
+    private final Object reference = new Object();
+
+    @Test
+    void publishedValuesAreDispatched() {
+        final ManualPublisher publisher = new ManualPublisher();
+        final FlowInterfaceProperty<String> property = InterfaceProperty.ofPublisher(publisher, "a", Runnable::run);
+        final List<String> values = new ArrayList<>();
+        property.addListener(this.reference, (reference, oldValue, newValue) -> values.add(newValue));
+
+        publisher.subscriber.onNext("b");
+        publisher.subscriber.onNext("c");
+
+        assertEquals(List.of("b", "c"), values);
+        assertEquals("c", property.get());
+        assertFalse(property.terminated());
+    }
+
+    @Test
+    void failureIsExposedAndKeepsTheLastValue() {
+        final ManualPublisher publisher = new ManualPublisher();
+        final FlowInterfaceProperty<String> property = InterfaceProperty.ofPublisher(publisher, "a", Runnable::run);
+        property.addListener(this.reference, (reference, oldValue, newValue) -> { });
+        final IllegalStateException failure = new IllegalStateException("The publisher failed on purpose.");
+
+        publisher.subscriber.onNext("b");
+        publisher.subscriber.onError(failure);
+
+        assertTrue(property.terminated());
+        assertFalse(property.subscribed());
+        assertSame(failure, property.error());
+        assertEquals("b", property.get());
+    }
+
+    @Test
+    void completionIsNotAnError() {
+        final ManualPublisher publisher = new ManualPublisher();
+        final FlowInterfaceProperty<String> property = InterfaceProperty.ofPublisher(publisher, "a", Runnable::run);
+        property.addListener(this.reference, (reference, oldValue, newValue) -> { });
+
+        publisher.subscriber.onComplete();
+
+        assertTrue(property.terminated());
+        assertNull(property.error());
+    }
+
+    /**
+     * A publisher whose values are pushed by the tests.
+     */
+    private static final class ManualPublisher implements Flow.Publisher<String> {
+
+        private Flow.Subscriber<? super String> subscriber;
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+
+    }
+
+}
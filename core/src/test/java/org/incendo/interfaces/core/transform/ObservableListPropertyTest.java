@@ -0,0 +1,41 @@
+package org.incendo.interfaces.core.transform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObservableListPropertyTest {
+
+    private final Object reference = new Object();
+
+    @Test
+    void removingAnElementNotifiesOutsideOfTheLock() {
+        final ObservableListProperty<String> list = InterfaceProperty.ofList(List.of("a", "b", "c"));
+        final List<Boolean> locked = new ArrayList<>();
+        list.addDeltaListener(this.reference, (reference, delta) -> locked.add(Thread.holdsLock(list)));
+        list.addListener(this.reference, (reference, oldValue, newValue) -> locked.add(Thread.holdsLock(list)));
+
+        assertTrue(list.remove((Object) "b"));
+
+        assertEquals(List.of("a", "c"), list.get());
+        assertEquals(List.of(false, false), locked);
+    }
+
+    @Test
+    void removingAMissingElementDoesNotNotify() {
+        final ObservableListProperty<String> list = InterfaceProperty.ofList(List.of("a"));
+        final List<ListDelta> deltas = new ArrayList<>();
+        list.addDeltaListener(this.reference, (reference, delta) -> deltas.add(delta));
+
+        assertFalse(list.remove((Object) "b"));
+
+        assertTrue(deltas.isEmpty());
+        assertEquals(List.of("a"), list.get());
+    }
+
+}
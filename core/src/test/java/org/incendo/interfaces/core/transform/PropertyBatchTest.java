@@ -0,0 +1,102 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyBatchTest {
+
+    private final Object reference = new Object();
+
+    @Test
+    void listenersAreNotifiedOnceWithTheValuesAroundTheBatch() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final List<String> changes = new ArrayList<>();
+        property.addListener(this.reference, (reference, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        try (PropertyBatch batch = PropertyBatch.begin()) {
+            property.set("b");
+            property.set("c");
+            assertTrue(changes.isEmpty());
+        }
+
+        assertEquals(List.of("a->c"), changes);
+    }
+
+    @Test
+    void nestedBatchesDispatchWhenTheOutermostCloses() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final List<String> values = new ArrayList<>();
+        property.addListener(this.reference, (reference, oldValue, newValue) -> values.add(newValue));
+
+        try (PropertyBatch outer = PropertyBatch.begin()) {
+            try (PropertyBatch inner = PropertyBatch.begin()) {
+                property.set("b");
+            }
+            assertTrue(values.isEmpty());
+        }
+
+        assertEquals(List.of("b"), values);
+    }
+
+    @Test
+    void receiversAreNotifiedOnceForEveryProperty() {
+        final InterfaceProperty<String> first = InterfaceProperty.of("a");
+        final InterfaceProperty<String> second = InterfaceProperty.of("b");
+        final RecordingReceiver receiver = new RecordingReceiver();
+        first.addListener(receiver, (reference, oldValue, newValue) -> { });
+        second.addListener(receiver, (reference, oldValue, newValue) -> { });
+
+        InterfaceProperty.transaction(() -> {
+            first.set("c");
+            second.set("d");
+            first.set("e");
+        });
+
+        assertEquals(List.of(Set.of(first, second)), receiver.batches);
+    }
+
+    @Test
+    void updatesMadeByListenersJoinTheBatch() {
+        final InterfaceProperty<String> source = InterfaceProperty.of("a");
+        final InterfaceProperty<Integer> length = InterfaceProperty.of(1);
+        final RecordingReceiver receiver = new RecordingReceiver();
+        source.addListener(this.reference, (reference, oldValue, newValue) -> length.set(newValue.length()));
+        source.addListener(receiver, (reference, oldValue, newValue) -> { });
+        length.addListener(receiver, (reference, oldValue, newValue) -> { });
+
+        InterfaceProperty.transaction(() -> source.set("abc"));
+
+        assertEquals(3, length.get());
+        assertEquals(List.of(Set.of(source, length)), receiver.batches);
+    }
+
+    @Test
+    void updatesOutsideOfBatchesAreDispatchedImmediately() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final List<String> values = new ArrayList<>();
+        property.addListener(this.reference, (reference, oldValue, newValue) -> values.add(newValue));
+
+        property.set("b");
+
+        assertEquals(List.of("b"), values);
+    }
+
+    private static final class RecordingReceiver implements PropertyBatch.Receiver {
+
+        private final List<Set<InterfaceProperty<?>>> batches = new ArrayList<>();
+
+        @Override
+        public void propertiesChanged(final @NonNull Set<@NonNull InterfaceProperty<?>> properties) {
+            this.batches.add(Set.copyOf(properties));
+        }
+
+    }
+
+}
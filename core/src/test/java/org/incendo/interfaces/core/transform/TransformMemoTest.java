@@ -0,0 +1,114 @@
+package org.incendo.interfaces.core.transform;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.fixture.TestElement;
+import org.incendo.interfaces.core.fixture.TestPane;
+import org.incendo.interfaces.core.fixture.TestTransforms;
+import org.incendo.interfaces.core.fixture.TestViewer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransformMemoTest {
+
+    private final TransformMemo<TestPane, TestViewer> memo = new TransformMemo<>();
+    private final Transform<TestPane, TestViewer> transform = TestTransforms.fill(0, () -> TestElement.of("a"));
+
+    @Test
+    void transformIsStaleUntilApplied() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final TransformContext<TestPane, TestViewer> context = TransformContext.of(1, this.transform, property);
+
+        assertTrue(this.memo.stale(context));
+        this.applied(context);
+        assertFalse(this.memo.stale(context));
+    }
+
+    @Test
+    void propertyUpdateMakesTransformStale() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final TransformContext<TestPane, TestViewer> context = TransformContext.of(1, this.transform, property);
+        this.applied(context);
+
+        property.set("b");
+
+        assertTrue(this.memo.stale(context));
+    }
+
+    @Test
+    void updateDuringApplyKeepsTransformStale() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final TransformContext<TestPane, TestViewer> context = TransformContext.of(1, this.transform, property);
+
+        final long[] versions = this.memo.versions(context);
+        property.set("b");
+        this.memo.applied(context, versions);
+
+        assertTrue(this.memo.stale(context));
+    }
+
+    @Test
+    void transformOfUnversionedPropertyIsAlwaysStale() {
+        final InterfaceProperty<String> property = new InterfaceProperty<>() {
+            @Override
+            public String get() {
+                return "a";
+            }
+
+            @Override
+            public void set(final String value) {
+            }
+
+            @Override
+            public <O> @NonNull Subscription addListener(final O reference, final @NonNull TriConsumer<O, String, String> consumer) {
+                return Subscription.empty();
+            }
+        };
+        final TransformContext<TestPane, TestViewer> context = TransformContext.of(1, this.transform, property);
+        this.applied(context);
+
+        assertTrue(this.memo.stale(context));
+    }
+
+    @Test
+    void propertyLessTransformIsReappliedWithInterface() {
+        final TransformContext<TestPane, TestViewer> context = TransformContext.of(1, this.transform);
+        this.applied(context);
+
+        assertTrue(this.memo.stale(context));
+    }
+
+    @Test
+    void propertyLessTransformCanOptOutOfInterfaceUpdates() {
+        final TransformContext<TestPane, TestViewer> context = TransformContext.of(1, this.transform)
+                .withRefreshInterval(Transform.REFRESH_NEVER);
+        this.applied(context);
+
+        assertFalse(this.memo.stale(context));
+    }
+
+    @Test
+    void updatingTransformIsReappliedDespiteUnchangedProperties() {
+        final InterfaceProperty<String> property = InterfaceProperty.of("a");
+        final TransformContext<TestPane, TestViewer> context =
+                TransformContext.of(1, Transform.updating(this.transform), property);
+        this.applied(context);
+
+        assertTrue(this.memo.stale(context));
+    }
+
+    @Test
+    void refreshingTransformIsNotReappliedWithInterface() {
+        final TransformContext<TestPane, TestViewer> context =
+                TransformContext.of(1, Transform.refreshing(Transform.updating(this.transform), 20));
+        this.applied(context);
+
+        assertFalse(this.memo.stale(context));
+    }
+
+    private void applied(final TransformContext<TestPane, TestViewer> context) {
+        this.memo.applied(context, this.memo.versions(context));
+    }
+
+}
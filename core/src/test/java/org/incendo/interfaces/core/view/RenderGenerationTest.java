@@ -0,0 +1,126 @@
+package org.incendo.interfaces.core.view;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderGenerationTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final RenderGeneration generations = new RenderGeneration();
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        this.gate.countDown();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void latestRenderIsCurrent() {
+        final long first = this.generations.next();
+        assertTrue(this.generations.current(first));
+
+        final long second = this.generations.next();
+        assertFalse(this.generations.current(first));
+        assertTrue(this.generations.current(second));
+    }
+
+    @Test
+    void startingAPartAgainCancelsItsOlderTask() {
+        final CompletableFuture<String> task = this.generations.supplyAsync("part", this.generations.next(), this::await, this.executor);
+
+        final long newer = this.generations.next();
+        this.generations.start("part", newer);
+
+        assertTrue(task.isCancelled());
+        assertTrue(this.generations.current("part", newer));
+    }
+
+    @Test
+    void tasksOfOtherPartsKeepRunning() throws Exception {
+        final long first = this.generations.next();
+        final CompletableFuture<String> task = this.generations.supplyAsync("slow", first, this::await, this.executor);
+
+        this.generations.start("other", this.generations.next());
+
+        assertFalse(task.isDone());
+        assertTrue(this.generations.current("slow", first));
+
+        this.gate.countDown();
+        task.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void olderRenderDoesNotReplaceNewerPart() {
+        final long first = this.generations.next();
+        final long second = this.generations.next();
+
+        this.generations.start("part", second);
+        this.generations.start("part", first);
+
+        assertTrue(this.generations.current("part", second));
+        assertFalse(this.generations.current("part", first));
+    }
+
+    @Test
+    void cancelledTaskInterruptsItsThread() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        this.generations.supplyAsync("part", this.generations.next(), () -> {
+            started.countDown();
+            try {
+                this.gate.await();
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "done";
+        }, this.executor);
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        this.generations.start("part", this.generations.next());
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancelStopsEveryPart() {
+        final long generation = this.generations.next();
+        final CompletableFuture<String> task = this.generations.supplyAsync("part", generation, this::await, this.executor);
+
+        this.generations.cancel();
+
+        assertTrue(task.isCancelled());
+        assertFalse(this.generations.current(generation));
+        assertFalse(this.generations.current("part", generation));
+    }
+
+    @Test
+    void cancellationIsRecognisedThroughCompletionExceptions() {
+        assertTrue(RenderGeneration.cancelled(new CancellationException()));
+        assertTrue(RenderGeneration.cancelled(new CompletionException(new CancellationException())));
+        assertFalse(RenderGeneration.cancelled(new CompletionException(new IllegalStateException())));
+        assertFalse(RenderGeneration.cancelled(null));
+    }
+
+    private String await() {
+        try {
+            this.gate.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+}
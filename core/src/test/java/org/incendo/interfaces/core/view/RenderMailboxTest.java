@@ -0,0 +1,126 @@
+package org.incendo.interfaces.core.view;
+
+import org.incendo.interfaces.core.fixture.TestElement;
+import org.incendo.interfaces.core.fixture.TestPane;
+import org.incendo.interfaces.core.fixture.TestTransforms;
+import org.incendo.interfaces.core.fixture.TestViewer;
+import org.incendo.interfaces.core.transform.InterfaceProperty;
+import org.incendo.interfaces.core.transform.TransformContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderMailboxTest {
+
+    private final List<Render> renders = new ArrayList<>();
+    private final RenderMailbox mailbox = new RenderMailbox((full, properties, transforms) -> {
+        final Render render = new Render(full, Set.copyOf(properties), Set.copyOf(transforms));
+        this.renders.add(render);
+        return render.future;
+    });
+
+    @Test
+    void idleMailboxRendersImmediately() {
+        this.mailbox.request();
+
+        assertEquals(1, this.renders.size());
+        assertTrue(this.renders.get(0).full);
+        assertTrue(this.mailbox.rendering());
+
+        this.renders.get(0).future.complete(null);
+        assertFalse(this.mailbox.rendering());
+    }
+
+    @Test
+    void requestsDuringRenderCollapseIntoOnePendingRender() {
+        final InterfaceProperty<String> first = InterfaceProperty.of("a");
+        final InterfaceProperty<String> second = InterfaceProperty.of("b");
+
+        this.mailbox.request();
+        this.mailbox.request(Set.of(first));
+        this.mailbox.request(Set.of(second));
+        assertEquals(1, this.renders.size());
+
+        this.renders.get(0).future.complete(null);
+
+        assertEquals(2, this.renders.size());
+        assertFalse(this.renders.get(1).full);
+        assertEquals(Set.of(first, second), this.renders.get(1).properties);
+    }
+
+    @Test
+    void pendingFullRenderCoversPropertyRenders() {
+        this.mailbox.request();
+        this.mailbox.request(Set.of(InterfaceProperty.of("a")));
+        this.mailbox.request();
+
+        this.renders.get(0).future.complete(null);
+
+        assertEquals(2, this.renders.size());
+        assertTrue(this.renders.get(1).full);
+    }
+
+    @Test
+    void refreshedTransformsAreUnioned() {
+        final TransformContext<TestPane, TestViewer> first = TransformContext.of(1, TestTransforms.fill(0, () -> TestElement.of("a")));
+        final TransformContext<TestPane, TestViewer> second = TransformContext.of(1, TestTransforms.fill(1, () -> TestElement.of("b")));
+
+        this.mailbox.request();
+        this.mailbox.refresh(Set.of(first));
+        this.mailbox.request();
+        this.mailbox.refresh(Set.of(second));
+
+        this.renders.get(0).future.complete(null);
+
+        assertTrue(this.renders.get(1).full);
+        assertEquals(Set.of(first, second), this.renders.get(1).transforms);
+    }
+
+    @Test
+    void failedRenderStartsThePendingRender() {
+        this.mailbox.request();
+        this.mailbox.request();
+
+        this.renders.get(0).future.completeExceptionally(new IllegalStateException("The render failed on purpose."));
+
+        assertEquals(2, this.renders.size());
+    }
+
+    @Test
+    void throwingRendererDoesNotBlockLaterRenders() {
+        final RenderMailbox throwing = new RenderMailbox((full, properties, transforms) -> {
+            throw new IllegalStateException("The renderer failed on purpose.");
+        });
+
+        throwing.request();
+
+        assertFalse(throwing.rendering());
+    }
+
+    private static final class Render {
+
+        private final boolean full;
+        private final Set<InterfaceProperty<?>> properties;
+        private final Set<TransformContext<?, ?>> transforms;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Render(
+                final boolean full,
+                final Set<InterfaceProperty<?>> properties,
+                final Set<TransformContext<?, ?>> transforms
+        ) {
+            this.full = full;
+            this.properties = properties;
+            this.transforms = transforms;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.incendo.interfaces.core.view;
+
+import org.incendo.interfaces.core.fixture.Await;
+import org.incendo.interfaces.core.fixture.TestElement;
+import org.incendo.interfaces.core.fixture.TestInterface;
+import org.incendo.interfaces.core.fixture.TestPane;
+import org.incendo.interfaces.core.fixture.TestTransforms;
+import org.incendo.interfaces.core.fixture.TestView;
+import org.incendo.interfaces.core.fixture.TestViewer;
+import org.incendo.interfaces.core.transform.InterfaceProperty;
+import org.incendo.interfaces.core.transform.TransformContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderPipelineTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void unrelatedPropertyRenderKeepsSlowTransformRunning() throws Exception {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final InterfaceProperty<String> slow = InterfaceProperty.of("slow");
+        final InterfaceProperty<String> other = InterfaceProperty.of("a");
+        final TestInterface backing = new TestInterface()
+                .transform(TransformContext.of(1, TestTransforms.gated(0, () -> TestElement.of(slow.get()), () -> gate), slow))
+                .transform(TransformContext.of(1, TestTransforms.fill(1, () -> TestElement.of(other.get())), other));
+        final TestView view = new TestView(backing, 2, this.executor);
+
+        final CompletableFuture<TestPane> open = view.pipeline().open(false);
+
+        other.set("b");
+        view.refresh(Set.of(other));
+        Await.until("the unrelated property has been rendered", () -> view.committed(1).equals("b"));
+
+        gate.countDown();
+        open.get(5, TimeUnit.SECONDS);
+
+        Await.until("the slow transform has been committed", () -> view.committed(0).equals("slow"));
+        assertEquals("b", view.committed(1));
+        assertTrue(view.failures().isEmpty());
+    }
+
+    @Test
+    void lateTransformReplacesPlaceholderAfterUnrelatedRenders() throws Exception {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final AtomicInteger starts = new AtomicInteger();
+        final InterfaceProperty<String> other = InterfaceProperty.of("a");
+        final TransformContext<TestPane, TestViewer> slow = TransformContext.<TestPane, TestViewer>of(
+                1,
+                TestTransforms.gated(0, () -> TestElement.of("slow"), () -> {
+                    starts.incrementAndGet();
+                    return gate;
+                })
+        ).withDeadline(Duration.ofMillis(20), TestTransforms.fill(0, () -> TestElement.of("loading")));
+        final TestInterface backing = new TestInterface()
+                .transform(slow)
+                .transform(TransformContext.of(1, TestTransforms.fill(1, () -> TestElement.of(other.get())), other));
+        final TestView view = new TestView(backing, 2, this.executor);
+
+        final TestPane opened = view.pipeline().open(false).get(5, TimeUnit.SECONDS);
+        assertEquals("loading", opened.element(0).toString());
+
+        other.set("b");
+        view.refresh(Set.of(other));
+        view.pipeline().refreshTransforms(Set.of(slow));
+        view.update();
+        Await.until("the unrelated property has been rendered", () -> view.committed(1).equals("b"));
+
+        gate.countDown();
+
+        Await.until("the late transform has replaced its placeholder", () -> view.committed(0).equals("slow"));
+        assertEquals(1, starts.get());
+    }
+
+    @Test
+    void progressiveOpenPatchesInSkeletonsAfterPropertyRender() throws Exception {
+        final CountDownLatch gate = new CountDownLatch(1);
+        final InterfaceProperty<String> clicked = InterfaceProperty.of("a");
+        final TestInterface backing = new TestInterface()
+                .transform(TransformContext.<TestPane, TestViewer>of(1, TestTransforms.gated(0, () -> TestElement.of("slow"), () -> gate))
+                        .withDeadline(Duration.ZERO, TestTransforms.fill(0, () -> TestElement.of("skeleton"))))
+                .transform(TransformContext.of(1, TestTransforms.fill(1, () -> TestElement.of(clicked.get())), clicked));
+        final TestView view = new TestView(backing, 2, this.executor);
+
+        final TestPane opened = view.pipeline().open(true).get(5, TimeUnit.SECONDS);
+        assertEquals("skeleton", opened.element(0).toString());
+
+        // A click sets a property while the skeleton is shown.
+        clicked.set("b");
+        view.refresh(Set.of(clicked));
+        Await.until("the clicked property has been rendered", () -> view.committed(1).equals("b"));
+        assertEquals("skeleton", view.committed(0));
+
+        gate.countDown();
+
+        Await.until("the skeleton has been replaced", () -> view.committed(0).equals("slow"));
+        assertEquals("b", view.committed(1));
+    }
+
+    @Test
+    void tickRefreshReappliesOnlyDueTransforms() throws Exception {
+        final AtomicInteger fast = new AtomicInteger();
+        final AtomicInteger slow = new AtomicInteger();
+        final TestInterface backing = new TestInterface()
+                .transform(TransformContext.<TestPane, TestViewer>of(
+                        1,
+                        TestTransforms.fill(0, () -> TestElement.of("fast" + fast.incrementAndGet()))
+                ).withRefreshInterval(4))
+                .transform(TransformContext.<TestPane, TestViewer>of(
+                        1,
+                        TestTransforms.fill(1, () -> TestElement.of("slow" + slow.incrementAndGet()))
+                ).withRefreshInterval(6));
+        final TestView view = new TestView(backing, 2, this.executor);
+        view.pipeline().open(false).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, view.pipeline().refreshInterval());
+
+        view.pipeline().tickRefresh(2);
+        assertEquals(0, view.commits());
+
+        view.pipeline().tickRefresh(4);
+        Await.until("the fast transform has been refreshed", () -> view.committed(0).equals("fast2"));
+        assertEquals(1, slow.get());
+
+        view.pipeline().tickRefresh(6);
+        Await.until("the slow transform has been refreshed", () -> view.committed(1).equals("slow2"));
+        assertEquals(2, fast.get());
+    }
+
+}
@@ -6,4 +6,6 @@ dependencies {
     api(projects.interfacesCore)
     compileOnlyApi(libs.paper.api)
     compileOnly(libs.guava)
+
+    testImplementation(libs.paper.api)
 }
@@ -8,7 +8,6 @@ import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.UUID;
 
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
@@ -26,6 +25,7 @@ import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.inventory.CraftingInventory;
@@ -34,10 +34,10 @@ import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.UpdatingInterface;
+import org.incendo.interfaces.core.transform.Subscription;
 import org.incendo.interfaces.core.view.InterfaceView;
 import org.incendo.interfaces.core.view.SelfUpdatingInterfaceView;
 import org.incendo.interfaces.paper.click.InventoryClickContext;
@@ -45,20 +45,25 @@ import org.incendo.interfaces.paper.element.ItemStackElement;
 import org.incendo.interfaces.paper.pane.ChestPane;
 import org.incendo.interfaces.paper.pane.CombinedPane;
 import org.incendo.interfaces.paper.pane.PlayerPane;
+import org.incendo.interfaces.paper.scheduler.InterfaceUpdateScheduler;
+import org.incendo.interfaces.paper.scheduler.InterfacesScheduler;
+import org.incendo.interfaces.paper.scheduler.MainThreadCommitQueue;
 import org.incendo.interfaces.paper.type.ChestInterface;
 import org.incendo.interfaces.paper.type.CloseHandler;
 import org.incendo.interfaces.paper.type.CombinedInterface;
 import org.incendo.interfaces.paper.type.OpenHandler;
+import org.incendo.interfaces.paper.view.CancellableView;
 import org.incendo.interfaces.paper.view.ChestView;
 import org.incendo.interfaces.paper.view.CombinedView;
 import org.incendo.interfaces.paper.view.PlayerInventoryView;
 import org.incendo.interfaces.paper.view.PlayerView;
+import org.incendo.interfaces.paper.view.RefreshableView;
+import org.incendo.interfaces.paper.view.SubscribedView;
 import org.incendo.interfaces.paper.view.TaskableView;
 import org.incendo.interfaces.paper.view.ViewCloseEvent;
 import org.incendo.interfaces.paper.view.ViewOpenEvent;
 
 import java.util.EnumSet;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -89,7 +94,7 @@ public class PaperInterfaceListeners implements Listener {
         return targetPlugin;
     }
 
-    private final @NonNull Map<@NonNull SelfUpdatingInterfaceView, @NonNull Integer> updatingRunnables;
+    private final @NonNull InterfaceUpdateScheduler updateScheduler;
 
     private final @Nullable Cache<UUID, Long> spamPrevention;
 
@@ -100,7 +105,7 @@ public class PaperInterfaceListeners implements Listener {
      */
     public PaperInterfaceListeners(final @NonNull Plugin plugin) {
         targetPlugin = plugin;
-        this.updatingRunnables = new ConcurrentHashMap<>();
+        this.updateScheduler = new InterfaceUpdateScheduler(plugin);
         this.spamPrevention = null;
     }
 
@@ -112,13 +117,22 @@ public class PaperInterfaceListeners implements Listener {
      */
     public PaperInterfaceListeners(final @NonNull Plugin plugin, final long clickThrottle) {
         targetPlugin = plugin;
-        this.updatingRunnables = new ConcurrentHashMap<>();
+        this.updateScheduler = new InterfaceUpdateScheduler(plugin);
         this.spamPrevention = CacheBuilder.newBuilder().expireAfterWrite(
                 50L * clickThrottle,
                 TimeUnit.MILLISECONDS
         ).build();
     }
 
+    /**
+     * Returns the scheduler updating the open views of updating interfaces.
+     *
+     * @return the update scheduler
+     */
+    public @NonNull InterfaceUpdateScheduler updateScheduler() {
+        return this.updateScheduler;
+    }
+
     /**
      * Installs the listeners for the given plugin.
      *
@@ -142,6 +156,10 @@ public class PaperInterfaceListeners implements Listener {
         for (final PlayerInventoryView view : PlayerInventoryView.getAllAndClear()) {
             view.close();
         }
+
+        this.updateScheduler.shutdown();
+        MainThreadCommitQueue.shutdown(targetPlugin);
+        InterfacesScheduler.unregister(targetPlugin);
     }
 
     /**
@@ -189,22 +207,21 @@ public class PaperInterfaceListeners implements Listener {
      * @param view the view
      */
     public void addOpenView(final @NonNull InterfaceView<?, PlayerViewer> view) {
+        if (view instanceof RefreshableView) {
+            this.updateScheduler.scheduleRefresh(view);
+        }
+
         if (view.backing() instanceof UpdatingInterface) {
             UpdatingInterface updatingInterface = (UpdatingInterface) view.backing();
             if (updatingInterface.updates()) {
-                BukkitRunnable runnable = new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        view.update();
-                    }
-                };
-
                 if (view instanceof SelfUpdatingInterfaceView) {
-                    SelfUpdatingInterfaceView selfUpdating = (SelfUpdatingInterfaceView) view;
-                    runnable.runTaskTimerAsynchronously(targetPlugin, updatingInterface.updateDelay(), updatingInterface.updateDelay());
-                    this.updatingRunnables.put(selfUpdating, runnable.getTaskId());
+                    this.updateScheduler.scheduleAdaptive(
+                            view,
+                            updatingInterface.updateDelay(),
+                            updatingInterface.maxUpdateDelay()
+                    );
                 } else {
-                    runnable.runTaskLaterAsynchronously(targetPlugin, updatingInterface.updateDelay());
+                    this.updateScheduler.scheduleOnce(view, updatingInterface.updateDelay());
                 }
             }
         }
@@ -265,10 +282,7 @@ public class PaperInterfaceListeners implements Listener {
                         () -> JavaPlugin.getProvidingPlugin(this.getClass())
                 );
 
-                Bukkit.getScheduler().runTaskAsynchronously(
-                        plugin,
-                        playerInventoryView::open
-                );
+                InterfacesScheduler.of(plugin).runAsync(playerInventoryView::open);
             }
         }
     }
@@ -363,29 +377,72 @@ public class PaperInterfaceListeners implements Listener {
         }
     }
 
-    private void cleanUpView(final @NonNull InterfaceView<?, PlayerViewer> view) {
-        if (view instanceof SelfUpdatingInterfaceView) {
-            SelfUpdatingInterfaceView selfUpdating = (SelfUpdatingInterfaceView) view;
+    /**
+     * Handles player movement, which keeps adaptively updating views at their base rate.
+     * <p>
+     * Only movements into another block count as activity, as the event is also called for every turn
+     * of the head of a player.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(final @NonNull PlayerMoveEvent event) {
+        if (event.hasChangedBlock()) {
+            this.markActive(event.getPlayer());
+        }
+    }
+
+    private void markActive(final @NonNull Player player) {
+        if (this.updateScheduler.size() == 0) {
+            return;
+        }
 
-            if (selfUpdating.updates()) {
-                Integer id = this.updatingRunnables.get(selfUpdating);
+        final InventoryHolder holder = player.getOpenInventory().getTopInventory().getHolder();
 
-                if (id != null) {
-                    Bukkit.getScheduler().cancelTask(id);
-                }
+        if (holder instanceof InterfaceView<?, ?>) {
+            this.updateScheduler.activity((InterfaceView<?, ?>) holder);
+        }
 
-                this.updatingRunnables.remove(selfUpdating);
-            }
+        final PlayerInventoryView playerInventoryView = PlayerInventoryView.forPlayer(player);
+
+        if (playerInventoryView != null) {
+            this.updateScheduler.activity(playerInventoryView);
         }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void cleanUpView(final @NonNull InterfaceView<?, PlayerViewer> view) {
+        this.updateScheduler.cancel(view);
 
         if (view instanceof TaskableView) {
             TaskableView taskableView = (TaskableView) view;
 
+            for (final InterfacesScheduler.Task task : taskableView.tasks()) {
+                task.cancel();
+            }
+
+            taskableView.tasks().clear();
+
+            // Views that only identify their tasks by id have scheduled them through the Bukkit scheduler.
             for (final Integer task : taskableView.taskIds()) {
                 Bukkit.getScheduler().cancelTask(task);
             }
         }
 
+        if (view instanceof CancellableView) {
+            ((CancellableView) view).cancelRenders();
+        }
+
+        if (view instanceof SubscribedView) {
+            SubscribedView subscribedView = (SubscribedView) view;
+
+            for (final Subscription subscription : subscribedView.subscriptions()) {
+                subscription.close();
+            }
+
+            subscribedView.subscriptions().clear();
+        }
+
         if (view instanceof CombinedView) {
             //todo: Other ways we could handle this?
             view.viewer().player().getInventory().setStorageContents(new ItemStack[36]);
@@ -420,6 +477,8 @@ public class PaperInterfaceListeners implements Listener {
         Inventory inventory = event.getInventory();
         InventoryHolder holder = inventory.getHolder();
 
+        this.markActive((Player) event.getWhoClicked());
+
         if (holder instanceof ChestView) {
             if (this.shouldThrottle((Player) event.getWhoClicked())) {
                 event.setCancelled(true);
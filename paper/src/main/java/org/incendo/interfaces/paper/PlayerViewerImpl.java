@@ -1,11 +1,11 @@
 package org.incendo.interfaces.paper;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.paper.scheduler.MainThreadCommitQueue;
 import org.incendo.interfaces.paper.utils.PaperUtils;
 import org.incendo.interfaces.paper.view.BookView;
 import org.incendo.interfaces.paper.view.ChestView;
@@ -63,24 +63,12 @@ final class PlayerViewerImpl implements PlayerViewer {
             }
         };
 
-        if (Bukkit.isPrimaryThread()) {
-            runnable.run();
-        } else {
-            try {
-                Plugin plugin = Objects.requireNonNullElseGet(
-                        PaperInterfaceListeners.plugin(),
-                        () -> JavaPlugin.getProvidingPlugin(this.getClass())
-                );
-
-                Bukkit.getScheduler().callSyncMethod(plugin, () -> {
-                    runnable.run();
+        final Plugin plugin = Objects.requireNonNullElseGet(
+                PaperInterfaceListeners.plugin(),
+                () -> JavaPlugin.getProvidingPlugin(this.getClass())
+        );
 
-                    return null;
-                }).get();
-            } catch (final Exception e) {
-                throw new RuntimeException(e);
-            }
-        }
+        MainThreadCommitQueue.of(plugin).submit(view, runnable);
     }
 
     @Override
@@ -1,26 +1,25 @@
 package org.incendo.interfaces.paper.pane;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.element.Element;
-import org.incendo.interfaces.core.pane.GridPane;
+import org.incendo.interfaces.core.pane.ArrayGridPane;
 import org.incendo.interfaces.core.util.Vector2;
 import org.incendo.interfaces.paper.element.ItemStackElement;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
  * A pane based off of a Minecraft chest inventory.
+ * <p>
+ * The slots of this pane match the slots of the chest inventory.
  */
-public final class ChestPane implements GridPane<ChestPane, ItemStackElement<ChestPane>> {
+public final class ChestPane extends ArrayGridPane<ChestPane, ItemStackElement<ChestPane>> {
 
     public static final int MINECRAFT_CHEST_WIDTH = 9;
 
-    private final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> elements;
-
     private final int rows;
 
     /**
@@ -29,16 +28,8 @@ public final class ChestPane implements GridPane<ChestPane, ItemStackElement<Che
      * @param rows the amount of rows
      */
     public ChestPane(final int rows) {
+        super(MINECRAFT_CHEST_WIDTH, rows, ItemStackElement.empty());
         this.rows = rows;
-
-        this.elements = new HashMap<>();
-
-        // Fill the arrays with empty elements.
-        for (int x = 0; x < MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = 0; y < this.rows; y++) {
-                this.elements.put(Vector2.at(x, y), ItemStackElement.empty());
-            }
-        }
     }
 
     /**
@@ -51,66 +42,69 @@ public final class ChestPane implements GridPane<ChestPane, ItemStackElement<Che
             final int rows,
             final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> elements
     ) {
-        this.rows = rows;
-        this.elements = elements;
+        this(new ChestPane(rows), elements);
     }
 
-    /**
-     * Returns the elements of the chest as a 2d array.
-     *
-     * @return the elements
-     */
-    public @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> chestElements() {
-        return this.elements;
+    private ChestPane(
+            final @NonNull ChestPane empty,
+            final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> elements
+    ) {
+        this(empty, toArray(empty, elements), null);
     }
 
-    /**
-     * Returns the amount of rows this pane has.
-     *
-     * @return the amount of rows
-     */
-    public int rows() {
-        return this.rows;
+    private ChestPane(
+            final @NonNull ChestPane source,
+            final @NonNull Element @NonNull [] elements,
+            final @Nullable BitSet changes
+    ) {
+        super(source, elements, changes);
+        this.rows = source.rows;
     }
 
-    @Override
-    public @NonNull Collection<Element> elements() {
-        final @NonNull List<Element> tempElements = new ArrayList<>();
-
-        // Fill the temp elements list with the elements.
-        for (int x = 0; x < MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = 0; y < this.rows; y++) {
-                tempElements.add(this.elements.get(Vector2.at(x, y)));
-            }
+    private static @NonNull Element @NonNull [] toArray(
+            final @NonNull ChestPane empty,
+            final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> elements
+    ) {
+        final Element[] array = empty.elements().toArray(new Element[0]);
+
+        // Copy over the elements, leaving the missing slots empty.
+        for (final Map.Entry<Vector2, ItemStackElement<ChestPane>> entry : elements.entrySet()) {
+            final Vector2 position = entry.getKey();
+            array[empty.slot(position.x(), position.y())] = entry.getValue();
         }
 
-        return tempElements;
+        return array;
     }
 
     @Override
-    public @NonNull ChestPane element(
-            final @NonNull ItemStackElement<ChestPane> element,
-            final int x,
-            final int y
-    ) {
-        if (y >= this.rows || x > 8) {
-            throw new IllegalArgumentException("Cannot set element outside of the bounds of this chest pane.");
-        }
+    protected @NonNull ChestPane copy(final @NonNull Element @NonNull [] elements, final @NonNull BitSet changes) {
+        return new ChestPane(this, elements, changes);
+    }
 
-        final Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> newElements = new HashMap<>(this.elements);
+    /**
+     * Returns the elements of the chest mapped by their positions.
+     * <p>
+     * The map is a snapshot of this pane, and is created on every invocation.
+     *
+     * @return the elements
+     */
+    public @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<ChestPane>> chestElements() {
+        final Map<Vector2, ItemStackElement<ChestPane>> elements = new HashMap<>(this.size() * 2);
 
-        newElements.put(Vector2.at(x, y), element);
+        for (int slot = 0; slot < this.size(); slot++) {
+            elements.put(this.position(slot), this.element(slot));
+        }
 
-        return new ChestPane(this.rows, newElements);
+        return elements;
     }
 
-    @Override
-    public @NonNull ItemStackElement<ChestPane> element(final int x, final int y) {
-        if (y >= this.rows || x > 8) {
-            throw new IllegalArgumentException("Cannot access element outside of the bounds of this chest pane.");
-        }
-
-        return this.elements.get(Vector2.at(x, y));
+    /**
+     * Returns the amount of rows this pane has.
+     *
+     * @return the amount of rows
+     */
+    public int rows() {
+        return this.rows;
     }
 
 }
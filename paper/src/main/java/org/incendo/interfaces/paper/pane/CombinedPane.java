@@ -1,24 +1,27 @@
 package org.incendo.interfaces.paper.pane;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.element.Element;
-import org.incendo.interfaces.core.pane.GridPane;
+import org.incendo.interfaces.core.pane.ArrayGridPane;
 import org.incendo.interfaces.core.util.Vector2;
 import org.incendo.interfaces.paper.element.ItemStackElement;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 
-public final class CombinedPane implements GridPane<CombinedPane, ItemStackElement<CombinedPane>> {
+/**
+ * A pane based off of a chest inventory combined with the player inventory.
+ * <p>
+ * The grid covers the chest rows followed by the player inventory rows, and the hotbar
+ * is stored in the slots following the grid.
+ */
+public final class CombinedPane extends ArrayGridPane<CombinedPane, ItemStackElement<CombinedPane>> {
 
     public static final int PLAYER_INVENTORY_ROWS = 4;
 
-    private final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<CombinedPane>> elements;
-
-    private final ItemStackElement[] hotbar;
+    private static final int HOTBAR_SIZE = 9;
 
     private final int rows;
 
@@ -28,19 +31,14 @@ public final class CombinedPane implements GridPane<CombinedPane, ItemStackEleme
      * @param rows the amount of rows
      */
     public CombinedPane(final int rows) {
+        super(
+                ChestPane.MINECRAFT_CHEST_WIDTH,
+                rows,
+                0,
+                rows * ChestPane.MINECRAFT_CHEST_WIDTH + HOTBAR_SIZE,
+                ItemStackElement.empty()
+        );
         this.rows = rows;
-        this.elements = new HashMap<>();
-        this.hotbar = new ItemStackElement[9];
-
-        for (int x = 0; x < ChestPane.MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = 0; y < this.rows; y++) {
-                this.elements.put(Vector2.at(x, y), ItemStackElement.empty());
-            }
-        }
-
-        for (int x = 0; x < ChestPane.MINECRAFT_CHEST_WIDTH; x++) {
-            this.hotbar[x] = ItemStackElement.empty();
-        }
     }
 
     /**
@@ -55,27 +53,82 @@ public final class CombinedPane implements GridPane<CombinedPane, ItemStackEleme
             final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<CombinedPane>> elements,
             final ItemStackElement<CombinedPane>[] hotbar
     ) {
-        this.rows = rows;
-        this.elements = elements;
-        this.hotbar = hotbar;
+        this(new CombinedPane(rows), elements, hotbar);
+    }
+
+    private CombinedPane(
+            final @NonNull CombinedPane empty,
+            final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<CombinedPane>> elements,
+            final ItemStackElement<CombinedPane>[] hotbar
+    ) {
+        this(empty, toArray(empty, elements, hotbar), null);
+    }
+
+    private CombinedPane(
+            final @NonNull CombinedPane source,
+            final @NonNull Element @NonNull [] elements,
+            final @Nullable BitSet changes
+    ) {
+        super(source, elements, changes);
+        this.rows = source.rows;
+    }
+
+    private static @NonNull Element @NonNull [] toArray(
+            final @NonNull CombinedPane empty,
+            final @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<CombinedPane>> elements,
+            final ItemStackElement<CombinedPane>[] hotbar
+    ) {
+        final Element[] array = empty.elements().toArray(new Element[0]);
+
+        // Copy over the elements, leaving the missing slots empty.
+        for (final Map.Entry<Vector2, ItemStackElement<CombinedPane>> entry : elements.entrySet()) {
+            final Vector2 position = entry.getKey();
+            array[empty.slot(position.x(), position.y())] = entry.getValue();
+        }
+
+        System.arraycopy(hotbar, 0, array, empty.hotbarSlot(0), HOTBAR_SIZE);
+
+        return array;
+    }
+
+    @Override
+    protected @NonNull CombinedPane copy(final @NonNull Element @NonNull [] elements, final @NonNull BitSet changes) {
+        return new CombinedPane(this, elements, changes);
     }
 
     /**
-     * Returns the inventory elements as a vector map.
+     * Returns the inventory elements mapped by their positions.
+     * <p>
+     * The map is a snapshot of this pane, and is created on every invocation.
      *
      * @return the elements
      */
     public @NonNull Map<@NonNull Vector2, @NonNull ItemStackElement<CombinedPane>> inventoryElements() {
-        return this.elements;
+        final Map<Vector2, ItemStackElement<CombinedPane>> elements = new HashMap<>(this.size() * 2);
+
+        for (int slot = 0; slot < this.hotbarSlot(0); slot++) {
+            elements.put(this.position(slot), this.element(slot));
+        }
+
+        return elements;
     }
 
     /**
-     * Returns the hotbar elements as a 2d array.
+     * Returns the hotbar elements as an array.
+     * <p>
+     * The array is a copy, and is created on every invocation.
      *
      * @return the elements
      */
+    @SuppressWarnings("unchecked")
     public @NonNull ItemStackElement<CombinedPane>[] hotbarElements() {
-        return this.hotbar;
+        final ItemStackElement<CombinedPane>[] hotbar = new ItemStackElement[HOTBAR_SIZE];
+
+        for (int x = 0; x < HOTBAR_SIZE; x++) {
+            hotbar[x] = this.hotbar(x);
+        }
+
+        return hotbar;
     }
 
     /**
@@ -87,21 +140,20 @@ public final class CombinedPane implements GridPane<CombinedPane, ItemStackEleme
         return this.rows;
     }
 
-    @Override
-    public @NonNull Collection<Element> elements() {
-        return new ArrayList<>(this.elements.values());
-    }
-
-    @Override
-    public @NonNull CombinedPane element(
-            final @NonNull ItemStackElement<CombinedPane> element,
-            final int x,
-            final int y
-    ) {
-        final Map<Vector2, ItemStackElement<CombinedPane>> newElements = new HashMap<>(this.elements);
-        newElements.put(Vector2.at(x, y), element);
+    /**
+     * Returns the pane slot that holds the given hotbar slot.
+     *
+     * @param x the slot in the hotbar
+     * @return the pane slot
+     */
+    public int hotbarSlot(final int x) {
+        if (x < 0 || x >= HOTBAR_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Hotbar slot %d is outside of the bounds of this pane.", x)
+            );
+        }
 
-        return new CombinedPane(this.rows, newElements, this.hotbar);
+        return this.rows * ChestPane.MINECRAFT_CHEST_WIDTH + x;
     }
 
     /**
@@ -115,15 +167,7 @@ public final class CombinedPane implements GridPane<CombinedPane, ItemStackEleme
             final @NonNull ItemStackElement<CombinedPane> element,
             final int x
     ) {
-        final ItemStackElement<CombinedPane>[] newHotbar = Arrays.copyOf(this.hotbar, this.hotbar.length);
-        newHotbar[x] = element;
-
-        return new CombinedPane(this.rows, this.elements, newHotbar);
-    }
-
-    @Override
-    public @NonNull ItemStackElement<CombinedPane> element(final int x, final int y) {
-        return this.elements.get(Vector2.at(x, y));
+        return this.element(this.hotbarSlot(x), element);
     }
 
     /**
@@ -135,7 +179,7 @@ public final class CombinedPane implements GridPane<CombinedPane, ItemStackEleme
     public @NonNull ItemStackElement<CombinedPane> hotbar(
             final int x
     ) {
-        return this.hotbar[x];
+        return this.element(this.hotbarSlot(x));
     }
 
 }
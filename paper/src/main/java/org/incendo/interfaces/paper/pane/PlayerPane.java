@@ -1,23 +1,26 @@
 package org.incendo.interfaces.paper.pane;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.value.qual.IntRange;
 import org.incendo.interfaces.core.element.Element;
-import org.incendo.interfaces.core.pane.GridPane;
+import org.incendo.interfaces.core.pane.ArrayGridPane;
 import org.incendo.interfaces.core.util.Vector2;
 import org.incendo.interfaces.paper.element.ItemStackElement;
 import org.incendo.interfaces.paper.utils.PaperUtils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.List;
 
 /**
  * A pane based off of a player inventory.
+ * <p>
+ * The slots of this pane match the slots of the player inventory, and the grid
+ * covers the main inventory.
  */
 @SuppressWarnings("unused")
-public final class PlayerPane implements GridPane<PlayerPane, ItemStackElement<PlayerPane>> {
+public final class PlayerPane extends ArrayGridPane<PlayerPane, ItemStackElement<PlayerPane>> {
 
     public static final int HOTBAR_MIN = 0;
     public static final int HOTBAR_MAX = 8;
@@ -27,31 +30,26 @@ public final class PlayerPane implements GridPane<PlayerPane, ItemStackElement<P
     public static final int ARMOR_MAX = 39;
     public static final int OFF_HAND = 40;
 
-    @SuppressWarnings("rawtypes")
-    private final ItemStackElement[] elements;
+    private static final int SIZE = OFF_HAND + 1;
 
     /**
      * Constructs {@code PlayerPane}.
      */
     public PlayerPane() {
-        this.elements = new ItemStackElement[41];
-        for (int i = 0; i < this.elements.length; i++) {
-            this.elements[i] = ItemStackElement.empty();
-        }
+        super(ChestPane.MINECRAFT_CHEST_WIDTH, 3, MAIN_MIN, SIZE, ItemStackElement.empty());
     }
 
-    @SuppressWarnings("rawtypes")
     private PlayerPane(
-            final @NonNull ItemStackElement @NonNull[] elements
+            final @NonNull PlayerPane source,
+            final @NonNull Element @NonNull [] elements,
+            final @Nullable BitSet changes
     ) {
-        this.elements = elements;
+        super(source, elements, changes);
     }
 
     @Override
-    public @NonNull Collection<Element> elements() {
-        final List<Element> elements = new ArrayList<>(this.elements.length);
-        elements.addAll(Arrays.asList(this.elements));
-        return elements;
+    protected @NonNull PlayerPane copy(final @NonNull Element @NonNull [] elements, final @NonNull BitSet changes) {
+        return new PlayerPane(this, elements, changes);
     }
 
     /**
@@ -59,46 +57,14 @@ public final class PlayerPane implements GridPane<PlayerPane, ItemStackElement<P
      *
      * @return the elements
      */
-    @SuppressWarnings("unchecked")
     public @NonNull List<@NonNull ItemStackElement<PlayerPane>> inventoryElements() {
-        final List<ItemStackElement<PlayerPane>> elements = new ArrayList<>(this.elements.length);
-        for (var element : this.elements) {
-            elements.add((ItemStackElement<PlayerPane>) element);
+        final List<ItemStackElement<PlayerPane>> elements = new ArrayList<>(this.size());
+        for (int slot = 0; slot < this.size(); slot++) {
+            elements.add(this.element(slot));
         }
         return elements;
     }
 
-    /**
-     * Sets an element at the given position.
-     * <p>
-     * This methods returns an updated instance of PlayerPane with the new element.
-     *
-     * @param index   the index
-     * @param element the element
-     * @return a new {@code PlayerPane}
-     */
-    public @NonNull PlayerPane element(
-            final @IntRange(from = 0, to = 40) int index,
-            final @NonNull ItemStackElement<PlayerPane> element
-    ) {
-        @SuppressWarnings("rawtypes")
-        final ItemStackElement[] elements = new ItemStackElement[this.elements.length];
-        System.arraycopy(this.elements, 0, elements, 0, this.elements.length);
-        elements[index] = element;
-        return new PlayerPane(elements);
-    }
-
-    /**
-     * Returns the element at the given index.
-     *
-     * @param index the index
-     * @return the element
-     */
-    @SuppressWarnings("unchecked")
-    public @NonNull ItemStackElement<PlayerPane> element(final @IntRange(from = 0, to = 40) int index) {
-        return this.elements[index];
-    }
-
     /**
      * Sets an element at the given position.
      * <p>
@@ -281,20 +247,6 @@ public final class PlayerPane implements GridPane<PlayerPane, ItemStackElement<P
         return this.element(adjusted);
     }
 
-    @Override
-    public @NonNull PlayerPane element(
-            @NonNull final ItemStackElement<PlayerPane> element,
-            final int x,
-            final int y
-    ) {
-        return this.main(PaperUtils.gridToSlot(Vector2.at(x, y)), element);
-    }
-
-    @Override
-    public @NonNull ItemStackElement<PlayerPane> element(final int x, final int y) {
-        return this.main(PaperUtils.gridToSlot(Vector2.at(x, y)));
-    }
-
     public enum SlotType {
         /** The player hotbar. */
         HOTBAR(HOTBAR_MIN, HOTBAR_MAX),
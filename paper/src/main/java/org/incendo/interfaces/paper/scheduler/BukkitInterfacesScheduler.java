@@ -0,0 +1,81 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link InterfacesScheduler} running all work on the main thread, through the Bukkit scheduler.
+ */
+final class BukkitInterfacesScheduler implements InterfacesScheduler {
+
+    private final @NonNull Plugin plugin;
+
+    BukkitInterfacesScheduler(final @NonNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean regionThreaded() {
+        return false;
+    }
+
+    @Override
+    public boolean owns(final @Nullable Player player) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public @NonNull Task run(final @Nullable Player player, final @NonNull Runnable task) {
+        return new BukkitInterfacesTask(Bukkit.getScheduler().runTask(this.plugin, task));
+    }
+
+    @Override
+    public @NonNull Task runLater(final @Nullable Player player, final @NonNull Runnable task, final long delay) {
+        return new BukkitInterfacesTask(Bukkit.getScheduler().runTaskLater(this.plugin, task, delay));
+    }
+
+    @Override
+    public @NonNull Task runRepeating(
+            final @Nullable Player player,
+            final @NonNull Runnable task,
+            final long delay,
+            final long period
+    ) {
+        return new BukkitInterfacesTask(Bukkit.getScheduler().runTaskTimer(this.plugin, task, delay, period));
+    }
+
+    @Override
+    public @NonNull Task runAsync(final @NonNull Runnable task) {
+        return new BukkitInterfacesTask(Bukkit.getScheduler().runTaskAsynchronously(this.plugin, task));
+    }
+
+    private static final class BukkitInterfacesTask implements Task {
+
+        private final @NonNull BukkitTask task;
+
+        private BukkitInterfacesTask(final @NonNull BukkitTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            this.task.cancel();
+        }
+
+        @Override
+        public boolean cancelled() {
+            return this.task.isCancelled();
+        }
+
+        @Override
+        public int id() {
+            return this.task.getTaskId();
+        }
+
+    }
+
+}
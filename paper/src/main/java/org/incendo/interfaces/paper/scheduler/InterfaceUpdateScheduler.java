@@ -0,0 +1,496 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.UpdatePriority;
+import org.incendo.interfaces.core.UpdatingInterface;
+import org.incendo.interfaces.core.pane.ArrayGridPane;
+import org.incendo.interfaces.core.pane.PaneDiff;
+import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.paper.view.RefreshableView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Updates the views of updating interfaces on the server tick.
+ * <p>
+ * Views are stored in a timing wheel: a ring of tick buckets, where every view is placed in the bucket of
+ * the tick it is due in. A single timer advances the wheel every tick and collects every view of the
+ * current bucket in one pass, so the amount of scheduled timers does not grow with the amount of open
+ * views. Scheduling and cancelling a view takes constant time.
+ * <p>
+ * The wheel is advanced on the global thread of the {@link InterfacesScheduler scheduler} of the plugin,
+ * but the due views are {@link InterfacesScheduler#runAsync(Runnable) updated} off the threads ticking the
+ * server, so that their transforms are not applied on the main thread. The views due in a tick are updated
+ * one after another by a single task. The views only write their rendered
+ * panes into their inventories on the main thread, through the {@link MainThreadCommitQueue}.
+ * <p>
+ * Views due in more than {@value #WHEEL_SIZE} ticks share a bucket with earlier views, and are skipped
+ * until their tick has been reached.
+ * <p>
+ * Views scheduled {@link #scheduleAdaptive(InterfaceView, int, int) adaptively} back off while they are
+ * idle: every update that leaves the pane of the view unchanged, without any {@link #activity(InterfaceView)
+ * activity} of the viewer since the previous update, doubles the interval of the view up to its maximum.
+ * Any change or activity returns the view to its base interval.
+ * <p>
+ * While the server is overloaded, updates are degraded by the {@link UpdatePriority priority} of their
+ * interface, as decided by the {@link #policy() load shedding policy}: their intervals are stretched, or
+ * they are paused altogether. The load is measured from the durations between the ticks of the timer.
+ * <p>
+ * The transforms of {@link RefreshableView refreshable views} that have their own refresh interval are
+ * {@link #scheduleRefresh(InterfaceView) refreshed} on a separate schedule, which only re-applies the
+ * transforms that are due rather than updating the whole view.
+ */
+public final class InterfaceUpdateScheduler {
+
+    /**
+     * The amount of buckets in the wheel.
+     */
+    public static final int WHEEL_SIZE = 64;
+
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final double NANOS_PER_TICK = 50_000_000D;
+    private static final double SMOOTHING = 0.05D;
+
+    private final @NonNull Plugin plugin;
+    private final @Nullable Entry @NonNull [] buckets = new Entry[WHEEL_SIZE];
+    // Only modified while holding the lock, but read without it to record activity.
+    private final @NonNull Map<@NonNull InterfaceView<?, ?>, @NonNull Entry> entries = new ConcurrentHashMap<>();
+    private final @NonNull Map<@NonNull InterfaceView<?, ?>, @NonNull Entry> refreshes = new ConcurrentHashMap<>();
+
+    private volatile long tick;
+    private final @NonNull InterfacesScheduler scheduler;
+    private InterfacesScheduler.@Nullable Task task;
+    private volatile @NonNull LoadSheddingPolicy policy = LoadSheddingPolicy.standard();
+
+    // Only accessed from the main thread, except for reads of the smoothed duration.
+    private long lastTick;
+    private volatile double tickDuration = NANOS_PER_TICK;
+
+    /**
+     * Constructs {@code InterfaceUpdateScheduler}.
+     *
+     * @param plugin the plugin owning the timer
+     */
+    public InterfaceUpdateScheduler(final @NonNull Plugin plugin) {
+        this.plugin = plugin;
+        this.scheduler = InterfacesScheduler.of(plugin);
+    }
+
+    /**
+     * Schedules the given view to be updated every {@code interval} ticks.
+     * <p>
+     * If the view is already scheduled, its schedule is replaced.
+     *
+     * @param view     the view
+     * @param interval the amount of ticks between updates
+     */
+    public void scheduleRepeating(final @NonNull InterfaceView<?, ?> view, final int interval) {
+        this.schedule(view, interval, interval, true);
+    }
+
+    /**
+     * Schedules the given view to be updated every {@code interval} ticks, backing off to at most
+     * {@code maxInterval} ticks while the view is unchanged and idle.
+     * <p>
+     * If the view is already scheduled, its schedule is replaced.
+     *
+     * @param view        the view
+     * @param interval    the amount of ticks between updates
+     * @param maxInterval the amount of ticks between updates at most
+     */
+    public void scheduleAdaptive(final @NonNull InterfaceView<?, ?> view, final int interval, final int maxInterval) {
+        this.schedule(view, interval, maxInterval, true);
+    }
+
+    /**
+     * Schedules the given view to be updated once, after {@code delay} ticks.
+     * <p>
+     * If the view is already scheduled, its schedule is replaced.
+     *
+     * @param view  the view
+     * @param delay the amount of ticks until the update
+     */
+    public void scheduleOnce(final @NonNull InterfaceView<?, ?> view, final int delay) {
+        this.schedule(view, delay, delay, false);
+    }
+
+    /**
+     * Schedules the transforms of the given view to be refreshed at their own refresh intervals.
+     * <p>
+     * If the refreshes of the view are already scheduled, their schedule is replaced. Nothing is scheduled
+     * if the view has no transforms with a refresh interval.
+     *
+     * @param view the view, which must be a {@link RefreshableView}
+     * @throws IllegalArgumentException if the view is not refreshable
+     */
+    public synchronized void scheduleRefresh(final @NonNull InterfaceView<?, ?> view) {
+        if (!(view instanceof RefreshableView)) {
+            throw new IllegalArgumentException(
+                    String.format("The view %s is not refreshable.", view)
+            );
+        }
+
+        final Entry previous = this.refreshes.remove(view);
+        if (previous != null) {
+            this.unlink(previous);
+        }
+
+        final int interval = ((RefreshableView) view).refreshInterval();
+        if (interval <= 0) {
+            return;
+        }
+
+        final Entry entry = new Entry(view, priority(view), interval, interval, true, true);
+        entry.since = this.tick;
+        this.add(this.refreshes, entry);
+    }
+
+    /**
+     * Records activity of the viewer of the given view, such as a click or movement.
+     * <p>
+     * An adaptively scheduled view that has backed off is returned to its base interval, and the view
+     * does not back off on its next update. Activity is recorded without locking, as it is reported for
+     * every movement of a viewer; only a view that has backed off is rescheduled.
+     *
+     * @param view the view
+     */
+    public void activity(final @NonNull InterfaceView<?, ?> view) {
+        final Entry entry = this.entries.get(view);
+
+        if (entry == null) {
+            return;
+        }
+
+        entry.activity = this.tick;
+
+        if (entry.interval > entry.base) {
+            this.reset(entry);
+        }
+    }
+
+    private synchronized void reset(final @NonNull Entry entry) {
+        // The entry may have been rescheduled or cancelled in the meantime.
+        if (this.entries.get(entry.view) == entry && entry.interval > entry.base) {
+            entry.interval = entry.base;
+
+            // Bring the next update forward, rather than waiting out the backed off interval.
+            if (entry.deadline > this.tick + entry.base) {
+                this.unlink(entry);
+                entry.deadline = this.tick + entry.base;
+                this.link(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the current amount of ticks between updates of the given view.
+     *
+     * @param view the view
+     * @return the interval, or {@code -1} if the view is not scheduled
+     */
+    public synchronized int interval(final @NonNull InterfaceView<?, ?> view) {
+        final Entry entry = this.entries.get(view);
+        return entry == null ? -1 : entry.interval;
+    }
+
+    /**
+     * Stops updating the given view.
+     *
+     * @param view the view
+     */
+    public synchronized void cancel(final @NonNull InterfaceView<?, ?> view) {
+        final Entry entry = this.entries.remove(view);
+
+        if (entry != null) {
+            this.unlink(entry);
+        }
+
+        final Entry refresh = this.refreshes.remove(view);
+
+        if (refresh != null) {
+            this.unlink(refresh);
+        }
+    }
+
+    /**
+     * Returns whether the given view is scheduled.
+     *
+     * @param view the view
+     * @return true if the view is scheduled, false if not
+     */
+    public synchronized boolean scheduled(final @NonNull InterfaceView<?, ?> view) {
+        return this.entries.containsKey(view) || this.refreshes.containsKey(view);
+    }
+
+    /**
+     * Returns the amount of scheduled updates and refreshes.
+     *
+     * @return the amount of schedules
+     */
+    public int size() {
+        return this.entries.size() + this.refreshes.size();
+    }
+
+    /**
+     * Returns the policy degrading updates while the server is overloaded.
+     *
+     * @return the load shedding policy
+     */
+    public @NonNull LoadSheddingPolicy policy() {
+        return this.policy;
+    }
+
+    /**
+     * Sets the policy degrading updates while the server is overloaded.
+     *
+     * @param policy the load shedding policy
+     */
+    public void policy(final @NonNull LoadSheddingPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the ticks per second of the server, measured from the recent durations between ticks.
+     *
+     * @return the ticks per second, at most 20
+     */
+    public double tps() {
+        return Math.min(20D, 1_000_000_000D / this.tickDuration);
+    }
+
+    /**
+     * Cancels every scheduled view and stops the timer.
+     */
+    public synchronized void shutdown() {
+        this.entries.clear();
+        this.refreshes.clear();
+        Arrays.fill(this.buckets, null);
+
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+
+        this.lastTick = 0;
+    }
+
+    private synchronized void schedule(
+            final @NonNull InterfaceView<?, ?> view,
+            final int ticks,
+            final int maxTicks,
+            final boolean repeating
+    ) {
+        final Entry previous = this.entries.remove(view);
+        if (previous != null) {
+            this.unlink(previous);
+        }
+
+        final int base = Math.max(ticks, 1);
+        this.add(this.entries, new Entry(view, priority(view), base, Math.max(maxTicks, base), repeating, false));
+    }
+
+    private void add(final @NonNull Map<@NonNull InterfaceView<?, ?>, @NonNull Entry> schedules, final @NonNull Entry entry) {
+        entry.deadline = this.tick + entry.interval;
+        schedules.put(entry.view, entry);
+        this.link(entry);
+
+        if (this.task == null) {
+            this.task = this.scheduler.runRepeating(null, this::tick, 1L, 1L);
+        }
+    }
+
+    private static @NonNull UpdatePriority priority(final @NonNull InterfaceView<?, ?> view) {
+        return view.backing() instanceof UpdatingInterface
+                ? ((UpdatingInterface) view.backing()).updatePriority()
+                : UpdatePriority.NORMAL;
+    }
+
+    /**
+     * Advances the wheel by one tick, and updates every view that is due.
+     */
+    void tick() {
+        final List<Entry> due = new ArrayList<>();
+
+        final double tps = this.measure();
+        final long tick;
+
+        synchronized (this) {
+            tick = ++this.tick;
+            Entry entry = this.buckets[(int) (tick & WHEEL_MASK)];
+
+            while (entry != null) {
+                final Entry next = entry.next;
+
+                if (entry.deadline <= tick) {
+                    this.unlink(entry);
+
+                    final int stretch = this.policy.stretch(entry.priority, tps);
+
+                    if (stretch <= 0) {
+                        // Updates of this priority are paused, check again after another interval.
+                        entry.deadline = tick + entry.interval;
+                        this.link(entry);
+                    } else if (entry.repeating) {
+                        due.add(entry);
+
+                        if (entry.max > entry.base) {
+                            this.adapt(entry);
+                        }
+
+                        entry.deadline = tick + Math.min((long) entry.interval * stretch, Integer.MAX_VALUE);
+                        this.link(entry);
+                    } else {
+                        due.add(entry);
+                        this.entries.remove(entry.view);
+                    }
+                }
+
+                entry = next;
+            }
+        }
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        final long[] elapsed = new long[due.size()];
+        for (int i = 0; i < elapsed.length; i++) {
+            elapsed[i] = tick - due.get(i).since;
+        }
+
+        // A single task updates the whole bucket, rather than waking a task for every due view.
+        this.scheduler.runAsync(() -> {
+            for (int i = 0; i < elapsed.length; i++) {
+                this.run(due.get(i), elapsed[i]);
+            }
+        });
+    }
+
+    private void run(final @NonNull Entry entry, final long elapsed) {
+        try {
+            if (entry.refresh) {
+                ((RefreshableView) entry.view).tickRefresh(elapsed);
+            } else {
+                entry.view.update();
+            }
+        } catch (final RuntimeException e) {
+            this.plugin.getLogger().log(Level.WARNING, "Failed to update interface", e);
+        }
+    }
+
+    private double measure() {
+        final long now = System.nanoTime();
+
+        if (this.lastTick != 0) {
+            final long duration = now - this.lastTick;
+            this.tickDuration += (duration - this.tickDuration) * SMOOTHING;
+        }
+
+        this.lastTick = now;
+        return this.tps();
+    }
+
+    private void adapt(final @NonNull Entry entry) {
+        // The pane is compared to the pane at the previous update, which covers the renders of that update.
+        final Object pane = entry.view.pane();
+
+        // The viewer has been active if activity was recorded since the tick of the previous update.
+        if (entry.activity >= entry.adapted || !unchanged(entry.snapshot, pane)) {
+            entry.interval = entry.base;
+        } else {
+            entry.interval = Math.min(entry.interval * 2, entry.max);
+        }
+
+        entry.adapted = this.tick;
+        entry.snapshot = pane;
+    }
+
+    private static boolean unchanged(final @Nullable Object previous, final @Nullable Object next) {
+        if (previous == null || previous == next) {
+            return previous == next;
+        }
+
+        if (previous instanceof ArrayGridPane<?, ?> && next instanceof ArrayGridPane<?, ?>) {
+            return PaneDiff.diff((ArrayGridPane<?, ?>) previous, (ArrayGridPane<?, ?>) next).isEmpty();
+        }
+
+        return Objects.equals(previous, next);
+    }
+
+    private void link(final @NonNull Entry entry) {
+        final int bucket = (int) (entry.deadline & WHEEL_MASK);
+        final Entry head = this.buckets[bucket];
+
+        entry.bucket = bucket;
+        entry.previous = null;
+        entry.next = head;
+
+        if (head != null) {
+            head.previous = entry;
+        }
+
+        this.buckets[bucket] = entry;
+    }
+
+    private void unlink(final @NonNull Entry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            this.buckets[entry.bucket] = entry.next;
+        }
+
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private static final class Entry {
+
+        private final @NonNull InterfaceView<?, ?> view;
+        private final @NonNull UpdatePriority priority;
+        private final int base;
+        private final int max;
+        private final boolean repeating;
+        private final boolean refresh;
+
+        private volatile int interval;
+        private long since;
+        private volatile long activity = -1;
+        private long adapted;
+        private @Nullable Object snapshot;
+        private long deadline;
+        private int bucket;
+        private @Nullable Entry previous;
+        private @Nullable Entry next;
+
+        private Entry(
+                final @NonNull InterfaceView<?, ?> view,
+                final @NonNull UpdatePriority priority,
+                final int base,
+                final int max,
+                final boolean repeating,
+                final boolean refresh
+        ) {
+            this.view = view;
+            this.priority = priority;
+            this.base = base;
+            this.max = max;
+            this.repeating = repeating;
+            this.refresh = refresh;
+            this.interval = base;
+        }
+
+    }
+
+}
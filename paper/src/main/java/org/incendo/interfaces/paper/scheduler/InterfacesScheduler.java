@@ -0,0 +1,154 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Schedules the work of interfaces on the threads of the server.
+ * <p>
+ * Work that belongs to a player, such as changes to the inventory of a viewer, is run on the thread that
+ * owns the player. Work without a player runs on the global thread. On servers with a single main thread,
+ * every player and the global work are owned by the main thread; on region-threaded servers, a player is
+ * owned by the thread ticking the region the player is in.
+ * <p>
+ * The scheduler of a plugin is detected from the server, unless one has been {@link #register(Plugin,
+ * InterfacesScheduler) registered} for the plugin, for example a fake scheduler in tests.
+ */
+public interface InterfacesScheduler {
+
+    /**
+     * Returns the scheduler of the given plugin.
+     *
+     * @param plugin the plugin
+     * @return the registered scheduler, or the scheduler matching the server
+     */
+    static @NonNull InterfacesScheduler of(final @NonNull Plugin plugin) {
+        return SchedulerRegistry.scheduler(plugin);
+    }
+
+    /**
+     * Registers the scheduler of the given plugin, replacing the detected scheduler.
+     * <p>
+     * The scheduler should be registered before the first interface of the plugin is opened.
+     *
+     * @param plugin    the plugin
+     * @param scheduler the scheduler
+     */
+    static void register(final @NonNull Plugin plugin, final @NonNull InterfacesScheduler scheduler) {
+        SchedulerRegistry.register(plugin, scheduler);
+    }
+
+    /**
+     * Forgets the scheduler of the given plugin, so that the plugin is no longer referenced once it has
+     * been disabled.
+     *
+     * @param plugin the plugin
+     */
+    static void unregister(final @NonNull Plugin plugin) {
+        SchedulerRegistry.unregister(plugin);
+    }
+
+    /**
+     * Returns a scheduler running all work on the main thread of the server.
+     *
+     * @param plugin the plugin owning the tasks
+     * @return the scheduler
+     */
+    static @NonNull InterfacesScheduler bukkit(final @NonNull Plugin plugin) {
+        return new BukkitInterfacesScheduler(plugin);
+    }
+
+    /**
+     * Returns a scheduler running the work of players on the threads of their regions.
+     *
+     * @param plugin the plugin owning the tasks
+     * @return the scheduler
+     */
+    static @NonNull InterfacesScheduler regionized(final @NonNull Plugin plugin) {
+        return new RegionizedInterfacesScheduler(plugin);
+    }
+
+    /**
+     * Returns whether the server ticks regions on separate threads, rather than on a single main thread.
+     *
+     * @return true if the server is region-threaded, false if not
+     */
+    boolean regionThreaded();
+
+    /**
+     * Returns whether the current thread owns the given player.
+     *
+     * @param player the player, or {@code null} for the global thread
+     * @return true if work of the player may be run on the current thread, false if not
+     */
+    boolean owns(@Nullable Player player);
+
+    /**
+     * Runs the given task on the thread owning the given player, on the next tick.
+     *
+     * @param player the player, or {@code null} to run the task on the global thread
+     * @param task   the task
+     * @return the scheduled task, which is cancelled if the player has left the server
+     */
+    @NonNull Task run(@Nullable Player player, @NonNull Runnable task);
+
+    /**
+     * Runs the given task on the thread owning the given player, after the given amount of ticks.
+     *
+     * @param player the player, or {@code null} to run the task on the global thread
+     * @param task   the task
+     * @param delay  the amount of ticks to wait
+     * @return the scheduled task, which is cancelled if the player has left the server
+     */
+    @NonNull Task runLater(@Nullable Player player, @NonNull Runnable task, long delay);
+
+    /**
+     * Runs the given task on the thread owning the given player, every {@code period} ticks.
+     *
+     * @param player the player, or {@code null} to run the task on the global thread
+     * @param task   the task
+     * @param delay  the amount of ticks to wait before the first run
+     * @param period the amount of ticks between runs
+     * @return the scheduled task, which is cancelled if the player has left the server
+     */
+    @NonNull Task runRepeating(@Nullable Player player, @NonNull Runnable task, long delay, long period);
+
+    /**
+     * Runs the given task off the threads ticking the server.
+     *
+     * @param task the task
+     * @return the scheduled task
+     */
+    @NonNull Task runAsync(@NonNull Runnable task);
+
+    /**
+     * A task scheduled by an {@link InterfacesScheduler}.
+     */
+    interface Task {
+
+        /**
+         * Cancels the task, if it has not run yet, or stops repeating it.
+         */
+        void cancel();
+
+        /**
+         * Returns whether the task has been cancelled.
+         *
+         * @return true if the task has been cancelled, false if not
+         */
+        boolean cancelled();
+
+        /**
+         * Returns the id of the task in the Bukkit scheduler.
+         *
+         * @return the id, or {@code -1} if the scheduler does not identify its tasks by id
+         */
+        default int id() {
+            return -1;
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.UpdatePriority;
+
+/**
+ * Decides how the updates of interfaces are degraded while the server is overloaded.
+ */
+@FunctionalInterface
+public interface LoadSheddingPolicy {
+
+    /**
+     * Returns a policy that never degrades updates.
+     *
+     * @return the policy
+     */
+    static @NonNull LoadSheddingPolicy none() {
+        return (priority, tps) -> 1;
+    }
+
+    /**
+     * Returns the default policy.
+     * <p>
+     * Interactive updates are never degraded. Below 18 TPS, the intervals of normal updates are doubled and
+     * the intervals of cosmetic updates are quadrupled. Below 15 TPS, the intervals of normal updates are
+     * quadrupled and cosmetic updates are paused.
+     *
+     * @return the policy
+     */
+    static @NonNull LoadSheddingPolicy standard() {
+        return (priority, tps) -> {
+            if (priority == UpdatePriority.INTERACTIVE || tps >= 18) {
+                return 1;
+            }
+
+            if (tps >= 15) {
+                return priority == UpdatePriority.COSMETIC ? 4 : 2;
+            }
+
+            return priority == UpdatePriority.COSMETIC ? 0 : 4;
+        };
+    }
+
+    /**
+     * Returns the factor to stretch update intervals of the given priority by, at the given TPS.
+     *
+     * @param priority the update priority
+     * @param tps      the recent ticks per second of the server, at most 20
+     * @return the factor, {@code 1} to update at the configured rate, or {@code 0} to pause updates
+     */
+    int stretch(@NonNull UpdatePriority priority, double tps);
+
+}
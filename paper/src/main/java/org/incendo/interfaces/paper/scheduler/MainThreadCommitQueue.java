@@ -0,0 +1,480 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.core.Interface;
+import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.paper.PlayerViewer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Runs changes that have to be made on the main thread, such as writing rendered slots into an inventory.
+ * <p>
+ * Changes submitted from other threads are added to a lock-free queue, which is drained by a single task
+ * on every tick. Submitting a change never blocks: completion is reported through the returned future
+ * instead. Changes submitted from the main thread are run immediately, while the budget allows it.
+ * <p>
+ * The time spent on changes is limited to a {@link #budget() budget} per tick, which covers both the
+ * changes run while draining the queue and the changes run immediately. Changes left over are carried to
+ * the next tick, and the changes of different viewers are run round-robin, so that a viewer with many
+ * changes cannot hold back the changes of other viewers. The changes of a single viewer are run in the
+ * order they were submitted. At least one change is run every tick, regardless of the budget. A change
+ * submitted on the main thread by a running change of the same viewer, such as opening the inventory of a
+ * view, is run immediately as part of the running change.
+ * <p>
+ * On region-threaded servers there is no single main thread: the changes of a viewer are run on the thread
+ * of the region the viewer is in, through the {@link InterfacesScheduler scheduler} of the plugin, and the
+ * region threads run them as part of their own ticks, without a shared budget.
+ */
+public final class MainThreadCommitQueue {
+
+    /**
+     * The budget of queues that have not been given a budget, unless configured otherwise.
+     */
+    public static final @NonNull Duration DEFAULT_BUDGET = Duration.ofMillis(5);
+
+    private static final @NonNull Map<@NonNull Plugin, @NonNull MainThreadCommitQueue> QUEUES = new ConcurrentHashMap<>();
+    private static final @NonNull Object GLOBAL_LANE = new Object();
+
+    private static volatile long defaultBudget = DEFAULT_BUDGET.toNanos();
+
+    private final @NonNull Plugin plugin;
+    private final @NonNull InterfacesScheduler scheduler;
+    private final @NonNull Queue<@NonNull Commit> commits = new ConcurrentLinkedQueue<>();
+    private final @NonNull AtomicBoolean started = new AtomicBoolean();
+    private volatile InterfacesScheduler.@Nullable Task drainTask;
+    // Interfaces are weakly referenced, so that the usage of discarded interfaces is not retained.
+    private final @NonNull Map<@NonNull Interface<?, ?>, @NonNull Usage> usage = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Only accessed from the main thread.
+    private final @NonNull Map<@NonNull Object, @NonNull ArrayDeque<@NonNull Commit>> lanes = new HashMap<>();
+    private final @NonNull ArrayDeque<@NonNull Object> rotation = new ArrayDeque<>();
+    private @Nullable Object running;
+    private long spent;
+
+    private volatile long budget = -1;
+    private volatile int deferred;
+
+    private MainThreadCommitQueue(final @NonNull Plugin plugin) {
+        this.plugin = plugin;
+        this.scheduler = InterfacesScheduler.of(plugin);
+    }
+
+    /**
+     * Returns the commit queue of the given plugin.
+     *
+     * @param plugin the plugin
+     * @return the commit queue
+     */
+    public static @NonNull MainThreadCommitQueue of(final @NonNull Plugin plugin) {
+        return QUEUES.computeIfAbsent(plugin, MainThreadCommitQueue::new);
+    }
+
+    /**
+     * Shuts the commit queue of the given plugin down, for example because the plugin is being disabled.
+     * <p>
+     * The queue stops draining and is forgotten, so that the plugin is no longer referenced. Changes that
+     * have not been run yet are completed exceptionally. This method must be called on the main thread.
+     *
+     * @param plugin the plugin
+     */
+    public static void shutdown(final @NonNull Plugin plugin) {
+        final MainThreadCommitQueue queue = QUEUES.remove(plugin);
+
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    /**
+     * Sets the budget of every queue that has not been given a budget of its own.
+     *
+     * @param budget the main thread time that may be spent on changes per tick
+     */
+    public static void defaultBudget(final @NonNull Duration budget) {
+        defaultBudget = checkBudget(budget);
+    }
+
+    private static long checkBudget(final @NonNull Duration budget) {
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("The budget must not be negative, got %s.", budget)
+            );
+        }
+
+        return budget.toNanos();
+    }
+
+    /**
+     * Returns the main thread time that may be spent on changes per tick.
+     *
+     * @return the budget
+     */
+    public @NonNull Duration budget() {
+        final long budget = this.budget;
+        return Duration.ofNanos(budget < 0 ? defaultBudget : budget);
+    }
+
+    /**
+     * Sets the main thread time that may be spent on changes per tick.
+     *
+     * @param budget the budget
+     */
+    public void budget(final @NonNull Duration budget) {
+        this.budget = checkBudget(budget);
+    }
+
+    /**
+     * Runs the given change on the main thread.
+     * <p>
+     * If this method is called from the main thread, the change is run before this method returns, unless
+     * the budget of the current tick has been spent.
+     *
+     * @param change the change
+     * @return a future completed once the change has been run
+     */
+    public @NonNull CompletableFuture<Void> submit(final @NonNull Runnable change) {
+        return this.submit(new Commit(GLOBAL_LANE, null, null, change));
+    }
+
+    /**
+     * Runs the given change of the given view on the main thread.
+     * <p>
+     * If this method is called from the main thread, the change is run before this method returns, unless
+     * earlier changes of the same viewer have been carried over to a later tick, or the budget of the
+     * current tick has been spent. The changes of a view share their budget with the other views of the
+     * same viewer, and the time spent on them is accounted to the interface of the view.
+     *
+     * @param view   the view
+     * @param change the change
+     * @return a future completed once the change has been run
+     * @see #usage(Interface)
+     */
+    public @NonNull CompletableFuture<Void> submit(
+            final @NonNull InterfaceView<?, ?> view,
+            final @NonNull Runnable change
+    ) {
+        final Player player = view.viewer() instanceof PlayerViewer ? ((PlayerViewer) view.viewer()).player() : null;
+        return this.submit(new Commit(view.viewer(), view.backing(), player, change));
+    }
+
+    private @NonNull CompletableFuture<Void> submit(final @NonNull Commit commit) {
+        if (this.scheduler.regionThreaded()) {
+            return this.submitToRegion(commit);
+        }
+
+        if (this.scheduler.owns(null)) {
+            if (commit.lane == this.running) {
+                // The change belongs to the running change, its time is accounted to the running change.
+                commit.execute();
+                return commit.future;
+            }
+
+            // Changes submitted from other threads may not have been drained yet, so they are moved to
+            // their lanes first to keep the changes of a viewer in order.
+            this.collect(Integer.MAX_VALUE);
+
+            // Keep the changes of a viewer in order, if earlier changes were carried over, and carry the
+            // change over if the budget of this tick has been spent.
+            if (!this.lanes.containsKey(commit.lane) && this.spent < this.budget().toNanos()) {
+                this.spent += this.run(commit);
+            } else if (!this.disabled(commit)) {
+                this.enqueue(commit);
+                this.deferred++;
+                this.start();
+            }
+
+            return commit.future;
+        }
+
+        if (this.disabled(commit)) {
+            return commit.future;
+        }
+
+        this.commits.add(commit);
+        this.start();
+
+        return commit.future;
+    }
+
+    private void start() {
+        if (!this.started.get() && this.started.compareAndSet(false, true)) {
+            this.drainTask = this.scheduler.runRepeating(null, this::drain, 0L, 1L);
+        }
+    }
+
+    private void shutdown() {
+        final InterfacesScheduler.Task task = this.drainTask;
+
+        if (task != null) {
+            task.cancel();
+        }
+
+        final IllegalStateException cause = new IllegalStateException(
+                String.format("Cannot commit interface changes, %s has been shut down.", this.plugin.getName())
+        );
+
+        for (Commit commit = this.commits.poll(); commit != null; commit = this.commits.poll()) {
+            commit.future.completeExceptionally(cause);
+        }
+
+        for (final ArrayDeque<Commit> lane : this.lanes.values()) {
+            for (final Commit commit : lane) {
+                commit.future.completeExceptionally(cause);
+            }
+        }
+
+        this.lanes.clear();
+        this.rotation.clear();
+        this.deferred = 0;
+    }
+
+    private long run(final @NonNull Commit commit) {
+        final Object previous = this.running;
+        this.running = commit.lane;
+
+        try {
+            return commit.run();
+        } finally {
+            this.running = previous;
+        }
+    }
+
+    /**
+     * Moves changes submitted from other threads to the lanes of their viewers.
+     *
+     * @param limit the maximum amount of changes to move
+     */
+    private void collect(final int limit) {
+        for (int remaining = limit; remaining > 0; remaining--) {
+            final Commit commit = this.commits.poll();
+
+            if (commit == null) {
+                break;
+            }
+
+            this.enqueue(commit);
+            this.deferred++;
+        }
+    }
+
+    private void enqueue(final @NonNull Commit commit) {
+        this.lanes.computeIfAbsent(commit.lane, lane -> {
+            this.rotation.add(lane);
+            return new ArrayDeque<>();
+        }).add(commit);
+    }
+
+    private @NonNull CompletableFuture<Void> submitToRegion(final @NonNull Commit commit) {
+        if (this.scheduler.owns(commit.player)) {
+            commit.run();
+            return commit.future;
+        }
+
+        if (this.disabled(commit)) {
+            return commit.future;
+        }
+
+        final InterfacesScheduler.Task task = this.scheduler.run(commit.player, commit::run);
+
+        if (task.cancelled()) {
+            commit.future.completeExceptionally(new IllegalStateException(
+                    String.format("Cannot commit interface changes, %s has left the server.", commit.player)
+            ));
+        }
+
+        return commit.future;
+    }
+
+    private boolean disabled(final @NonNull Commit commit) {
+        if (this.plugin.isEnabled()) {
+            return false;
+        }
+
+        commit.future.completeExceptionally(new IllegalStateException(
+                String.format("Cannot commit interface changes, %s is disabled.", this.plugin.getName())
+        ));
+        return true;
+    }
+
+    /**
+     * Returns the amount of changes waiting for a later tick.
+     *
+     * @return the amount of changes
+     */
+    public int pending() {
+        return this.commits.size() + this.deferred;
+    }
+
+    /**
+     * Returns the main thread time spent on changes to views of the given interface.
+     *
+     * @param backing the interface
+     * @return the usage, or {@code null} if no changes of the interface have been run
+     */
+    public @Nullable Usage usage(final @NonNull Interface<?, ?> backing) {
+        return this.usage.get(backing);
+    }
+
+    /**
+     * Returns the main thread time spent on changes, by interface.
+     * <p>
+     * Interfaces that are no longer referenced are removed from the usage once they have been garbage
+     * collected.
+     *
+     * @return an unmodifiable copy of the usage
+     */
+    public @NonNull Map<@NonNull Interface<?, ?>, @NonNull Usage> usage() {
+        synchronized (this.usage) {
+            return Collections.unmodifiableMap(new HashMap<>(this.usage));
+        }
+    }
+
+    private void drain() {
+        final long budget = this.budget().toNanos();
+        // A new tick has started, which has its own budget.
+        this.spent = 0;
+
+        // Changes submitted during this drain are picked up on the next tick.
+        this.collect(this.commits.size());
+
+        synchronized (this.usage) {
+            for (final Usage usage : this.usage.values()) {
+                usage.lastTick = 0;
+            }
+        }
+
+        boolean first = true;
+        while (!this.rotation.isEmpty() && (first || this.spent < budget)) {
+            first = false;
+
+            final Object key = this.rotation.poll();
+            final ArrayDeque<Commit> lane = this.lanes.get(key);
+            final Commit commit = lane.poll();
+
+            this.deferred--;
+            this.spent += this.run(commit);
+
+            if (lane.isEmpty()) {
+                this.lanes.remove(key);
+            } else {
+                // Move on to the next viewer, this viewer continues after every other viewer had its turn.
+                this.rotation.add(key);
+            }
+        }
+    }
+
+    /**
+     * The main thread time spent on the changes of an interface.
+     */
+    public static final class Usage {
+
+        private volatile long lastTick;
+        private volatile long total;
+        private volatile long commits;
+
+        private Usage() {
+        }
+
+        /**
+         * Returns the time spent on changes since the start of the current tick.
+         *
+         * @return the time spent
+         */
+        public @NonNull Duration lastTick() {
+            return Duration.ofNanos(this.lastTick);
+        }
+
+        /**
+         * Returns the time spent on changes in total.
+         *
+         * @return the time spent
+         */
+        public @NonNull Duration total() {
+            return Duration.ofNanos(this.total);
+        }
+
+        /**
+         * Returns the amount of changes run.
+         *
+         * @return the amount of changes
+         */
+        public long commits() {
+            return this.commits;
+        }
+
+        private synchronized void record(final long nanos) {
+            // Changes may be run on several region threads at once.
+            this.lastTick += nanos;
+            this.total += nanos;
+            this.commits++;
+        }
+
+    }
+
+    private final class Commit {
+
+        private final @NonNull Object lane;
+        private final @Nullable Interface<?, ?> owner;
+        private final @Nullable Player player;
+        private final @NonNull Runnable change;
+        private final @NonNull CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Commit(
+                final @NonNull Object lane,
+                final @Nullable Interface<?, ?> owner,
+                final @Nullable Player player,
+                final @NonNull Runnable change
+        ) {
+            this.lane = lane;
+            this.owner = owner;
+            this.player = player;
+            this.change = change;
+        }
+
+        private long run() {
+            final long start = System.nanoTime();
+
+            this.execute();
+
+            final long duration = System.nanoTime() - start;
+
+            if (this.owner != null) {
+                MainThreadCommitQueue.this.usage
+                        .computeIfAbsent(this.owner, owner -> new Usage())
+                        .record(duration);
+            }
+
+            return duration;
+        }
+
+        private void execute() {
+            try {
+                this.change.run();
+                this.future.complete(null);
+            } catch (final RuntimeException e) {
+                this.future.completeExceptionally(e);
+
+                if (this.future.getNumberOfDependents() == 0) {
+                    MainThreadCommitQueue.this.plugin.getLogger().log(Level.WARNING, "Failed to commit interface change", e);
+                }
+            }
+        }
+
+    }
+
+}
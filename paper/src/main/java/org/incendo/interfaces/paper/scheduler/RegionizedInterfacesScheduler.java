@@ -0,0 +1,101 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link InterfacesScheduler} for region-threaded servers, running the work of players through their
+ * entity schedulers and global work through the global region scheduler.
+ */
+final class RegionizedInterfacesScheduler implements InterfacesScheduler {
+
+    private final @NonNull Plugin plugin;
+
+    RegionizedInterfacesScheduler(final @NonNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean regionThreaded() {
+        return true;
+    }
+
+    @Override
+    public boolean owns(final @Nullable Player player) {
+        return player == null ? Bukkit.isGlobalTickThread() : Bukkit.isOwnedByCurrentRegion(player);
+    }
+
+    @Override
+    public @NonNull Task run(final @Nullable Player player, final @NonNull Runnable task) {
+        if (player == null) {
+            return new RegionizedTask(Bukkit.getGlobalRegionScheduler().run(this.plugin, scheduled -> task.run()));
+        }
+
+        return new RegionizedTask(player.getScheduler().run(this.plugin, scheduled -> task.run(), null));
+    }
+
+    @Override
+    public @NonNull Task runLater(final @Nullable Player player, final @NonNull Runnable task, final long delay) {
+        // Region schedulers do not accept delays shorter than a tick.
+        final long ticks = Math.max(delay, 1L);
+
+        if (player == null) {
+            return new RegionizedTask(Bukkit.getGlobalRegionScheduler().runDelayed(this.plugin, scheduled -> task.run(), ticks));
+        }
+
+        return new RegionizedTask(player.getScheduler().runDelayed(this.plugin, scheduled -> task.run(), null, ticks));
+    }
+
+    @Override
+    public @NonNull Task runRepeating(
+            final @Nullable Player player,
+            final @NonNull Runnable task,
+            final long delay,
+            final long period
+    ) {
+        final long ticks = Math.max(delay, 1L);
+
+        if (player == null) {
+            return new RegionizedTask(
+                    Bukkit.getGlobalRegionScheduler().runAtFixedRate(this.plugin, scheduled -> task.run(), ticks, period)
+            );
+        }
+
+        return new RegionizedTask(
+                player.getScheduler().runAtFixedRate(this.plugin, scheduled -> task.run(), null, ticks, period)
+        );
+    }
+
+    @Override
+    public @NonNull Task runAsync(final @NonNull Runnable task) {
+        return new RegionizedTask(Bukkit.getAsyncScheduler().runNow(this.plugin, scheduled -> task.run()));
+    }
+
+    private static final class RegionizedTask implements Task {
+
+        // Entity schedulers return no task for players that have left the server.
+        private final @Nullable ScheduledTask task;
+
+        private RegionizedTask(final @Nullable ScheduledTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            if (this.task != null) {
+                this.task.cancel();
+            }
+        }
+
+        @Override
+        public boolean cancelled() {
+            return this.task == null || this.task.isCancelled();
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link InterfacesScheduler schedulers} of plugins.
+ */
+final class SchedulerRegistry {
+
+    private static final @NonNull String REGIONIZED_SERVER = "io.papermc.paper.threadedregions.RegionizedServer";
+    private static final @NonNull Map<@NonNull Plugin, @NonNull InterfacesScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+    private static final boolean REGION_THREADED = detectRegionThreading();
+
+    private SchedulerRegistry() {
+    }
+
+    static @NonNull InterfacesScheduler scheduler(final @NonNull Plugin plugin) {
+        return SCHEDULERS.computeIfAbsent(plugin, key -> REGION_THREADED
+                ? InterfacesScheduler.regionized(key)
+                : InterfacesScheduler.bukkit(key));
+    }
+
+    static void register(final @NonNull Plugin plugin, final @NonNull InterfacesScheduler scheduler) {
+        SCHEDULERS.put(plugin, scheduler);
+    }
+
+    static void unregister(final @NonNull Plugin plugin) {
+        SCHEDULERS.remove(plugin);
+    }
+
+    private static boolean detectRegionThreading() {
+        try {
+            Class.forName(REGIONIZED_SERVER);
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Scheduling of interface updates.
+ */
+package org.incendo.interfaces.paper.scheduler;
@@ -25,18 +25,7 @@ public interface PaperTransform {
      * @return the transform
      */
     static @NonNull Transform<ChestPane, PlayerViewer> chestFill(final @NonNull ItemStackElement<ChestPane> element) {
-        return (pane, view) -> {
-            final int length = ChestPane.MINECRAFT_CHEST_WIDTH;
-            final int height = pane.rows();
-
-            for (int x = 0; x < length; x++) {
-                for (int y = 0; y < height; y++) {
-                    pane = pane.element(element, x, y);
-                }
-            }
-
-            return pane;
-        };
+        return (pane, view) -> pane.edit(editor -> editor.fill(element));
     }
 
     /**
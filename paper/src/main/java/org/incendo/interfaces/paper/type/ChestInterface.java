@@ -4,6 +4,7 @@ import net.kyori.adventure.text.Component;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.interfaces.core.Interface;
+import org.incendo.interfaces.core.UpdatePriority;
 import org.incendo.interfaces.core.UpdatingInterface;
 import org.incendo.interfaces.core.arguments.HashMapInterfaceArguments;
 import org.incendo.interfaces.core.arguments.InterfaceArguments;
@@ -21,6 +22,9 @@ import org.incendo.interfaces.paper.view.PlayerView;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * An interface using a chest.
@@ -37,12 +41,18 @@ public final class ChestInterface implements
     private final @NonNull Component title;
     private final boolean updates;
     private final int updateDelay;
+    private final int maxUpdateDelay;
+    private final @NonNull UpdatePriority updatePriority;
     private final boolean cancelClicksInPlayerInventory;
     private final @NonNull ClickHandler<ChestPane, InventoryClickEvent, PlayerViewer, InventoryClickContext<ChestPane,
             ChestView>> clickHandler;
+    private final @NonNull Executor transformExecutor;
+    private final boolean progressiveOpen;
 
     /**
      * Constructs {@code ChestInterface}.
+     * <p>
+     * Asynchronous transforms are applied on the common fork join pool.
      *
      * @param rows          the rows
      * @param title         the interfaces title
@@ -65,6 +75,56 @@ public final class ChestInterface implements
             final boolean cancelClicksInPlayerInventory,
             final @NonNull ClickHandler<ChestPane, InventoryClickEvent, PlayerViewer, InventoryClickContext<ChestPane,
                     ChestView>> clickHandler
+    ) {
+        this(
+                rows,
+                title,
+                transforms,
+                closeHandlers,
+                openHandlers,
+                updates,
+                updateDelay,
+                updateDelay,
+                UpdatePriority.NORMAL,
+                cancelClicksInPlayerInventory,
+                clickHandler,
+                ForkJoinPool.commonPool(),
+                false
+        );
+    }
+
+    /**
+     * Constructs {@code ChestInterface}.
+     *
+     * @param rows          the rows
+     * @param title         the interfaces title
+     * @param transforms    the transformations to apply
+     * @param closeHandlers the close handlers to apply
+     * @param openHandlers  the open handlers to apply
+     * @param updates       {@code true} if the interface is an updating interface
+     * @param updateDelay   the update delay
+     * @param maxUpdateDelay the longest update delay to back off to while the interface is unchanged and idle
+     * @param updatePriority the priority of the updates while the server is overloaded
+     * @param cancelClicksInPlayerInventory whether to cancel clicks in the players inventory
+     * @param clickHandler  the handler to run on click
+     * @param transformExecutor the executor to apply asynchronous transforms on
+     * @param progressiveOpen whether views are opened before their asynchronous transforms complete
+     */
+    public ChestInterface(
+            final int rows,
+            final @NonNull Component title,
+            final @NonNull List<TransformContext<ChestPane, PlayerViewer>> transforms,
+            final @NonNull List<CloseHandler<ChestPane>> closeHandlers,
+            final @NonNull List<OpenHandler<ChestPane>> openHandlers,
+            final boolean updates,
+            final int updateDelay,
+            final int maxUpdateDelay,
+            final @NonNull UpdatePriority updatePriority,
+            final boolean cancelClicksInPlayerInventory,
+            final @NonNull ClickHandler<ChestPane, InventoryClickEvent, PlayerViewer, InventoryClickContext<ChestPane,
+                    ChestView>> clickHandler,
+            final @NonNull Executor transformExecutor,
+            final boolean progressiveOpen
     ) {
         this.title = title;
         this.transformationList = transforms;
@@ -72,9 +132,13 @@ public final class ChestInterface implements
         this.openHandlerList = openHandlers;
         this.updates = updates;
         this.updateDelay = updateDelay;
+        this.maxUpdateDelay = Math.max(maxUpdateDelay, updateDelay);
+        this.updatePriority = updatePriority;
         this.rows = rows;
         this.cancelClicksInPlayerInventory = cancelClicksInPlayerInventory;
         this.clickHandler = clickHandler;
+        this.transformExecutor = transformExecutor;
+        this.progressiveOpen = progressiveOpen;
     }
 
     /**
@@ -169,6 +233,14 @@ public final class ChestInterface implements
         return view;
     }
 
+    @Override
+    public @NonNull CompletableFuture<ChestView> openAsync(
+            final @NonNull PlayerViewer viewer,
+            final @NonNull InterfaceArguments arguments
+    ) {
+        return new ChestView(this, viewer, arguments, this.title).openAsync();
+    }
+
     @Override
     public @NonNull InterfaceView<ChestPane, PlayerViewer> open(
             @NonNull final InterfaceView<?, PlayerViewer> parent,
@@ -225,6 +297,26 @@ public final class ChestInterface implements
         return this.updateDelay;
     }
 
+    /**
+     * Returns the longest update delay the interface backs off to while it is unchanged and idle.
+     *
+     * @return the maximum update delay
+     */
+    @Override
+    public int maxUpdateDelay() {
+        return this.maxUpdateDelay;
+    }
+
+    /**
+     * Returns the priority of the updates of the interface.
+     *
+     * @return the update priority
+     */
+    @Override
+    public @NonNull UpdatePriority updatePriority() {
+        return this.updatePriority;
+    }
+
     /**
      * Whether interfaces should cancel events that come from the players inventories.
      * @return true if it should cancel the events
@@ -233,6 +325,24 @@ public final class ChestInterface implements
         return this.cancelClicksInPlayerInventory;
     }
 
+    /**
+     * Returns the executor that asynchronous transforms are applied on.
+     *
+     * @return the transform executor
+     */
+    public @NonNull Executor transformExecutor() {
+        return this.transformExecutor;
+    }
+
+    /**
+     * Returns whether views of this interface are opened before their asynchronous transforms complete.
+     *
+     * @return true if views are opened progressively, false if not
+     */
+    public boolean progressiveOpen() {
+        return this.progressiveOpen;
+    }
+
     /**
      * A class that builds a chest interface.
      */
@@ -273,6 +383,16 @@ public final class ChestInterface implements
          */
         private final int updateDelay;
 
+        /**
+         * How many ticks to wait between interface updates at most, while the interface is unchanged and idle.
+         */
+        private final int maxUpdateDelay;
+
+        /**
+         * The priority of the updates while the server is overloaded.
+         */
+        private final @NonNull UpdatePriority updatePriority;
+
         private final boolean cancelClicksInPlayerInventory;
 
         /**
@@ -281,6 +401,16 @@ public final class ChestInterface implements
         private final @NonNull ClickHandler<ChestPane, InventoryClickEvent, PlayerViewer, InventoryClickContext<ChestPane,
                 ChestView>> clickHandler;
 
+        /**
+         * The executor to apply asynchronous transforms on.
+         */
+        private final @NonNull Executor transformExecutor;
+
+        /**
+         * Whether views are opened before their asynchronous transforms complete.
+         */
+        private final boolean progressiveOpen;
+
         /**
          * Constructs {@code Builder}.
          */
@@ -292,8 +422,12 @@ public final class ChestInterface implements
             this.title = Component.empty();
             this.updates = false;
             this.updateDelay = 1;
+            this.maxUpdateDelay = 1;
+            this.updatePriority = UpdatePriority.NORMAL;
             this.cancelClicksInPlayerInventory = false;
             this.clickHandler = ClickHandler.cancel();
+            this.transformExecutor = ForkJoinPool.commonPool();
+            this.progressiveOpen = false;
         }
 
         private Builder(
@@ -304,9 +438,13 @@ public final class ChestInterface implements
                 final @NonNull Component title,
                 final boolean updates,
                 final int updateDelay,
+                final int maxUpdateDelay,
+                final @NonNull UpdatePriority updatePriority,
                 final boolean cancelClicksInPlayerInventory,
                 final @NonNull ClickHandler<ChestPane, InventoryClickEvent, PlayerViewer, InventoryClickContext<ChestPane,
-                        ChestView>> clickHandler
+                        ChestView>> clickHandler,
+                final @NonNull Executor transformExecutor,
+                final boolean progressiveOpen
         ) {
             this.transformsList = Collections.unmodifiableList(transformsList);
             this.closeHandlerList = Collections.unmodifiableList(closeHandlerList);
@@ -315,8 +453,12 @@ public final class ChestInterface implements
             this.title = title;
             this.updates = updates;
             this.updateDelay = updateDelay;
+            this.maxUpdateDelay = maxUpdateDelay;
+            this.updatePriority = updatePriority;
             this.cancelClicksInPlayerInventory = cancelClicksInPlayerInventory;
             this.clickHandler = clickHandler;
+            this.transformExecutor = transformExecutor;
+            this.progressiveOpen = progressiveOpen;
         }
 
         /**
@@ -343,8 +485,12 @@ public final class ChestInterface implements
                     this.title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -372,8 +518,12 @@ public final class ChestInterface implements
                     title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -395,8 +545,12 @@ public final class ChestInterface implements
                     this.title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -418,8 +572,12 @@ public final class ChestInterface implements
                     this.title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -452,8 +610,12 @@ public final class ChestInterface implements
                     this.title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -494,8 +656,12 @@ public final class ChestInterface implements
                     this.title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    handler
+                    handler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -515,8 +681,75 @@ public final class ChestInterface implements
                     this.title,
                     updates,
                     updateDelay,
+                    updateDelay,
+                    this.updatePriority,
+                    this.cancelClicksInPlayerInventory,
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
+            );
+        }
+
+        /**
+         * Controls how/if the interface updates, backing off while the interface is unchanged.
+         * <p>
+         * The delay between updates doubles, up to {@code maxUpdateDelay}, every time an update leaves the
+         * rendered interface unchanged while the viewer has not interacted with it. The delay returns to
+         * {@code updateDelay} as soon as the interface changes or the viewer clicks or moves.
+         *
+         * @param updates        true if the interface should update, false if not
+         * @param updateDelay    how many ticks to wait between updates
+         * @param maxUpdateDelay how many ticks to wait between updates at most
+         * @return new builder instance
+         */
+        public @NonNull Builder updates(final boolean updates, final int updateDelay, final int maxUpdateDelay) {
+            if (maxUpdateDelay < updateDelay) {
+                throw new IllegalArgumentException(String.format(
+                        "The maximum update delay (%d) must not be shorter than the update delay (%d).",
+                        maxUpdateDelay,
+                        updateDelay
+                ));
+            }
+
+            return new Builder(
+                    this.transformsList,
+                    this.closeHandlerList,
+                    this.openHandlerList,
+                    this.rows,
+                    this.title,
+                    updates,
+                    updateDelay,
+                    maxUpdateDelay,
+                    this.updatePriority,
+                    this.cancelClicksInPlayerInventory,
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
+            );
+        }
+
+        /**
+         * Sets the priority of the updates of the interface, deciding how they are degraded while the
+         * server is overloaded.
+         *
+         * @param updatePriority the update priority
+         * @return new builder instance
+         */
+        public @NonNull Builder updatePriority(final @NonNull UpdatePriority updatePriority) {
+            return new Builder(
+                    this.transformsList,
+                    this.closeHandlerList,
+                    this.openHandlerList,
+                    this.rows,
+                    this.title,
+                    this.updates,
+                    this.updateDelay,
+                    this.maxUpdateDelay,
+                    updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
@@ -534,8 +767,68 @@ public final class ChestInterface implements
                     this.title,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
+            );
+        }
+
+        /**
+         * Sets the executor that asynchronous transforms are applied on.
+         * <p>
+         * Transforms that block, for example on database lookups, should use an executor that does not
+         * share its threads with unrelated work.
+         *
+         * @param transformExecutor the executor
+         * @return new builder instance
+         * @see org.incendo.interfaces.paper.utils.VirtualThreadInterfacesUpdateExecutor
+         */
+        public @NonNull Builder transformExecutor(final @NonNull Executor transformExecutor) {
+            return new Builder(
+                    this.transformsList,
+                    this.closeHandlerList,
+                    this.openHandlerList,
+                    this.rows,
+                    this.title,
+                    this.updates,
+                    this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
+                    this.cancelClicksInPlayerInventory,
+                    this.clickHandler,
+                    transformExecutor,
+                    this.progressiveOpen
+            );
+        }
+
+        /**
+         * Controls whether views are opened before their asynchronous transforms complete.
+         * <p>
+         * A progressively opened view shows its inventory as soon as its synchronous transforms have been
+         * applied, with the {@link Transform#placeholder() placeholders} of its asynchronous transforms in
+         * their place, and fills in the slots of every asynchronous transform as it completes.
+         *
+         * @param progressiveOpen true to open views progressively, false to wait for every transform
+         * @return new builder instance
+         */
+        public @NonNull Builder progressiveOpen(final boolean progressiveOpen) {
+            return new Builder(
+                    this.transformsList,
+                    this.closeHandlerList,
+                    this.openHandlerList,
+                    this.rows,
+                    this.title,
+                    this.updates,
+                    this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
+                    this.cancelClicksInPlayerInventory,
+                    this.clickHandler,
+                    this.transformExecutor,
+                    progressiveOpen
             );
         }
 
@@ -554,8 +847,12 @@ public final class ChestInterface implements
                     this.openHandlerList,
                     this.updates,
                     this.updateDelay,
+                    this.maxUpdateDelay,
+                    this.updatePriority,
                     this.cancelClicksInPlayerInventory,
-                    this.clickHandler
+                    this.clickHandler,
+                    this.transformExecutor,
+                    this.progressiveOpen
             );
         }
 
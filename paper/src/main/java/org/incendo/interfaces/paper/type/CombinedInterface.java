@@ -23,6 +23,8 @@ import org.incendo.interfaces.paper.view.PlayerView;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * An interface using a chest.
@@ -167,6 +169,44 @@ public final class CombinedInterface implements
         return view;
     }
 
+    /**
+     * Opens this interface to the viewer without blocking the calling thread.
+     * <p>
+     * The transforms of the view are applied on the {@link #updateExecutor() update executor}, after which
+     * the view is shown on the main thread.
+     *
+     * @param viewer    the viewer
+     * @param arguments the interface's arguments
+     * @return a future completed with the view once it has been opened
+     */
+    @Override
+    public @NonNull CompletableFuture<CombinedView> openAsync(
+            final @NonNull PlayerViewer viewer,
+            final @NonNull InterfaceArguments arguments
+    ) {
+        return new CombinedView(this, viewer, arguments, this.title).openAsync();
+    }
+
+    /**
+     * Opens this interface to the viewer, applying the transforms of the view on the given executor.
+     * <p>
+     * Asynchronous transforms are applied on the {@link #updateExecutor() update executor}, and the view is
+     * shown on the main thread.
+     *
+     * @param viewer    the viewer
+     * @param arguments the interface's arguments
+     * @param executor  the executor to apply the transforms on
+     * @return a future completed with the view once it has been opened
+     */
+    @Override
+    public @NonNull CompletableFuture<CombinedView> openAsync(
+            final @NonNull PlayerViewer viewer,
+            final @NonNull InterfaceArguments arguments,
+            final @NonNull Executor executor
+    ) {
+        return new CombinedView(this, viewer, arguments, this.title).openAsync(executor);
+    }
+
     @Override
     public @NonNull InterfaceView<CombinedPane, PlayerViewer> open(
             @NonNull final InterfaceView<?, PlayerViewer> parent,
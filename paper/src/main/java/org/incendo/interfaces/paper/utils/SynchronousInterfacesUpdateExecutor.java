@@ -1,30 +1,18 @@
 package org.incendo.interfaces.paper.utils;
 
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-
-import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
+import org.incendo.interfaces.paper.scheduler.MainThreadCommitQueue;
 
+/**
+ * Runs the update on the main thread.
+ * <p>
+ * Updates requested from other threads are queued for the next tick, without waiting for them to complete.
+ */
 public final class SynchronousInterfacesUpdateExecutor implements InterfacesUpdateExecutor  {
 
     @Override
     public void execute(final Plugin plugin, final Runnable runnable) {
-        if (Bukkit.isPrimaryThread()) {
-            runnable.run();
-            return;
-        }
-
-        Future<Void> completionFuture = Bukkit.getScheduler().callSyncMethod(plugin, () -> {
-           runnable.run();
-           return null;
-        });
-
-        try {
-            completionFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new RuntimeException(e);
-        }
+        MainThreadCommitQueue.of(plugin).submit(runnable);
     }
 
 }
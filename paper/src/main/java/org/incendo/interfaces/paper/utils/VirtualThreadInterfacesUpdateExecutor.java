@@ -0,0 +1,34 @@
+package org.incendo.interfaces.paper.utils;
+
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs every update on a new virtual thread.
+ * <p>
+ * Virtual threads are cheap to create and release their carrier thread while blocked, so updates and
+ * transforms that block on I/O can run concurrently in large numbers without a tuned thread pool.
+ * <p>
+ * This executor can also be used as the transform executor of a
+ * {@link org.incendo.interfaces.paper.type.ChestInterface}.
+ */
+public final class VirtualThreadInterfacesUpdateExecutor implements InterfacesUpdateExecutor, Executor {
+
+    private static final @NonNull ThreadFactory THREAD_FACTORY = Thread.ofVirtual()
+            .name("interfaces-update-", 0)
+            .factory();
+
+    @Override
+    public void execute(final Plugin plugin, final Runnable runnable) {
+        this.execute(runnable);
+    }
+
+    @Override
+    public void execute(final @NonNull Runnable runnable) {
+        THREAD_FACTORY.newThread(runnable).start();
+    }
+
+}
@@ -0,0 +1,14 @@
+package org.incendo.interfaces.paper.view;
+
+/**
+ * Represents an interface view that renders asynchronously.
+ * The renders in flight are cancelled when the view is closed.
+ */
+public interface CancellableView {
+
+    /**
+     * Cancels every render in flight, discarding their results
+     */
+    void cancelRenders();
+
+}
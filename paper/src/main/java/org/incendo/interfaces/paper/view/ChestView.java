@@ -1,42 +1,43 @@
 package org.incendo.interfaces.paper.view;
 
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.InventoryView;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.Interface;
 import org.incendo.interfaces.core.transform.InterfaceProperty;
 import org.incendo.interfaces.core.arguments.InterfaceArguments;
-import org.incendo.interfaces.core.element.Element;
-import org.incendo.interfaces.core.transform.TransformContext;
-import org.incendo.interfaces.core.util.Vector2;
+import org.incendo.interfaces.core.pane.PaneCompositor;
+import org.incendo.interfaces.core.pane.PaneDiff;
+import org.incendo.interfaces.core.transform.PropertyBatch;
+import org.incendo.interfaces.core.transform.Subscription;
 import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.core.view.RenderPipeline;
+import org.incendo.interfaces.core.view.RenderedView;
 import org.incendo.interfaces.core.view.SelfUpdatingInterfaceView;
 import org.incendo.interfaces.paper.PaperInterfaceListeners;
 import org.incendo.interfaces.paper.PlayerViewer;
 import org.incendo.interfaces.paper.element.ItemStackElement;
 import org.incendo.interfaces.paper.pane.ChestPane;
+import org.incendo.interfaces.paper.scheduler.InterfacesScheduler;
+import org.incendo.interfaces.paper.scheduler.MainThreadCommitQueue;
 import org.incendo.interfaces.paper.type.ChestInterface;
 import org.incendo.interfaces.paper.type.ChildTitledInterface;
 import org.incendo.interfaces.paper.utils.InventoryFactory;
-import org.incendo.interfaces.paper.utils.PaperUtils;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 /**
  * The view of a chest.
@@ -44,8 +45,13 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings("unused")
 public final class ChestView implements
         PlayerView<ChestPane>,
+        RenderedView<ChestPane, PlayerViewer>,
         TaskableView,
         SelfUpdatingInterfaceView,
+        SubscribedView,
+        CancellableView,
+        RefreshableView,
+        PropertyBatch.Receiver,
         ChildView {
 
     private final @NonNull PlayerViewer viewer;
@@ -56,9 +62,11 @@ public final class ChestView implements
     private @NonNull ChestPane pane;
     private @NonNull Inventory inventory;
 
-    private final @NonNull Map<Integer, Element> current = new HashMap<>();
-    private final @NonNull List<ContextCompletedPane<ChestPane>> panes = new ArrayList<>();
-    private final Set<Integer> tasks = new HashSet<>();
+    private @Nullable ChestPane applied;
+    private final @NonNull PaneCompositor<ChestPane, ItemStackElement<ChestPane>> compositor;
+    private final @NonNull RenderPipeline<ChestPane, PlayerViewer> pipeline;
+    private final Set<InterfacesScheduler.Task> tasks = ConcurrentHashMap.newKeySet();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
 
     private final Plugin plugin;
 
@@ -105,67 +113,42 @@ public final class ChestView implements
                 () -> JavaPlugin.getProvidingPlugin(this.getClass())
         );
         this.pane = new ChestPane(this.backing.rows());
-    }
+        this.compositor = new PaneCompositor<>(this.pane, ItemStackElement.empty()::equals);
+        this.pipeline = new RenderPipeline<>(this, this.compositor, this.backing.transformExecutor(), new RenderPipeline.Target() {
+            @Override
+            public @NonNull CompletableFuture<?> commit() {
+                return ChestView.this.reApplySync();
+            }
 
-    private @NonNull CompletableFuture<ChestPane> updatePane(final boolean firstApply) {
-        final var futures = new CompletableFuture<?>[this.backing.transformations().size()];
-        for (var i = 0; i < this.backing.transformations().size(); i++) {
-            final var transformContext = this.backing.transformations().get(i);
-            futures[i] = this.transformToFuture(transformContext);
-            // If it's the first time we apply the transform, then
-            // we add update listeners to all the dependent properties
-            if (firstApply) {
-                for (final InterfaceProperty<?> property : transformContext.properties()) {
-                    property.addListener(this, (reference, oldValue, newValue) -> reference.updateByProperty(property));
-                }
+            @Override
+            public void failed(final @NonNull String message, final @NonNull Throwable throwable) {
+                ChestView.this.plugin.getLogger().warning(message + ": " + throwable.getMessage());
             }
-        }
-        return CompletableFuture.allOf(futures).thenApply(oVoid -> this.mergePanes());
+        });
     }
 
-    private @NonNull CompletableFuture<ChestPane> updatePaneByProperty(final @NonNull InterfaceProperty<?> interfaceProperty) {
-        final var futures = new ArrayList<CompletableFuture<?>>();
-        for (var i = 0; i < this.backing.transformations().size(); i++) {
-            final var transformContext = this.backing.transformations().get(i);
-            if (!transformContext.properties().contains(interfaceProperty)) {
-                continue;
-            }
-            futures.add(this.transformToFuture(transformContext));
+    private void subscribe() {
+        // The subscriptions are closed when the view is closed, and renewed when it is opened again
+        if (!this.subscriptions.isEmpty()) {
+            return;
         }
 
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(oVoid -> this.mergePanes());
+        for (final var transform : this.backing.transformations()) {
+            for (final InterfaceProperty<?> property : transform.properties()) {
+                this.subscriptions.add(
+                        property.addListener(this, (reference, oldValue, newValue) -> reference.updateByProperties(Set.of(property)))
+                );
+            }
+        }
     }
 
-    private CompletableFuture<ChestPane> transformToFuture(final TransformContext<ChestPane, PlayerViewer> transformContext) {
-        final var transform = transformContext.transform();
-        final CompletableFuture<ChestPane> future;
-        if (transform.async()) {
-            future = CompletableFuture.supplyAsync(() -> transform.apply(new ChestPane(this.backing.rows()), this));
-        } else {
-            future = CompletableFuture.completedFuture(transform.apply(new ChestPane(this.backing.rows()), this));
-        }
-        return future.whenComplete((pane, throwable) -> {
-            if (throwable != null) {
-                this.plugin.getLogger().warning("Failed to apply transformation: " + throwable.getMessage());
-                return;
-            }
-            this.panes.removeIf(completedPane -> completedPane.context().equals(transformContext));
-            this.panes.add(new ContextCompletedPane<>(transformContext, pane));
-        });
+    @Override
+    public void propertiesChanged(final @NonNull Set<@NonNull InterfaceProperty<?>> properties) {
+        this.updateByProperties(properties);
     }
 
-    private void updateByProperty(final @NonNull InterfaceProperty<?> interfaceProperty) {
-        this.updatePaneByProperty(interfaceProperty).whenComplete(
-                (pane, throwable) -> {
-                    if (throwable != null) {
-                        this.plugin.getLogger().warning("Failed to update interface by property: " + throwable.getMessage());
-                        return;
-                    }
-                    this.pane = pane;
-                    this.reApplySync();
-                }
-        );
+    private void updateByProperties(final @NonNull Set<@NonNull InterfaceProperty<?>> interfaceProperties) {
+        this.pipeline.refresh(interfaceProperties);
     }
 
     private boolean isOpen(final boolean firstOpen) {
@@ -185,24 +168,16 @@ public final class ChestView implements
             return;
         }
 
-        Map<Vector2, ItemStackElement<ChestPane>> elements = this.pane.chestElements();
+        // Commit the latest merged pane, which includes layers that have arrived after the render.
+        final ChestPane pane = this.mergePanes();
+        this.pane = pane;
+        final BitSet changed = PaneDiff.diff(this.applied, pane);
 
-        for (int x = 0; x < ChestPane.MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = 0; y < this.backing.rows(); y++) {
-                Vector2 position = Vector2.at(x, y);
-                int slot = PaperUtils.gridToSlot(position);
-
-                final @Nullable Element currentElement = this.current.get(slot);
-                final @NonNull ItemStackElement<ChestPane> element = elements.get(position);
-
-                if (element.equals(currentElement)) {
-                    continue;
-                }
-
-                this.current.put(slot, element);
-                this.inventory.setItem(slot, element.itemStack());
-            }
+        for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+            this.inventory.setItem(slot, pane.element(slot).itemStack());
         }
+
+        this.applied = pane;
     }
 
     @Override
@@ -245,31 +220,11 @@ public final class ChestView implements
         if (!this.viewer.player().isOnline()) {
             return;
         }
-        this.updatePane(false).whenComplete(
-                (pane, throwable) -> {
-                    if (throwable != null) {
-                        this.plugin.getLogger().warning("Failed to update interface: " + throwable.getMessage());
-                        return;
-                    }
-                    this.pane = pane;
-                    this.reApplySync();
-                }
-        );
+        this.pipeline.update();
     }
 
-    private void reApplySync() {
-        if (Bukkit.isPrimaryThread()) {
-            this.reapplyInventory(false);
-        } else {
-            try {
-                Bukkit.getScheduler().callSyncMethod(this.plugin, () -> {
-                    this.reapplyInventory(false);
-                    return null;
-                }).get();
-            } catch (final Exception e) {
-                throw new RuntimeException(e);
-            }
-        }
+    private @NonNull CompletableFuture<Void> reApplySync() {
+        return MainThreadCommitQueue.of(this.plugin).submit(this, () -> this.reapplyInventory(false));
     }
 
     /**
@@ -310,31 +265,42 @@ public final class ChestView implements
 
     @Override
     public void open() {
-        this.updatePane(true).whenComplete(
-                (pane, throwable) -> {
-                    if (throwable != null) {
-                        this.plugin.getLogger().warning("Failed to first update interface: " + throwable.getMessage());
-                        return;
-                    }
-                    this.pane = pane;
-                    if (Bukkit.isPrimaryThread()) {
-                        this.inventory = this.createInventory();
-                        this.viewer.open(this);
-                        this.emitEvent();
-                    } else {
-                        try {
-                            Bukkit.getScheduler().callSyncMethod(this.plugin, () -> {
-                                this.inventory = this.createInventory();
-                                this.viewer.open(this);
-                                this.emitEvent();
-                                return null;
-                            }).get();
-                        } catch (final Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                }
-        );
+        this.open(false);
+    }
+
+    /**
+     * Opens the view without blocking the calling thread.
+     * <p>
+     * Every transform, including synchronous transforms, is applied on the transform executor of the
+     * interface, and only the creation of the inventory is run on the main thread.
+     *
+     * @return a future completed with this view once it has been opened
+     */
+    public @NonNull CompletableFuture<ChestView> openAsync() {
+        return this.open(true);
+    }
+
+    private @NonNull CompletableFuture<ChestView> open(final boolean async) {
+        this.subscribe();
+        // A progressive open does not wait for asynchronous transforms
+        final boolean progressive = this.backing.progressiveOpen();
+        final CompletableFuture<ChestPane> update = async
+                ? CompletableFuture.supplyAsync(() -> this.pipeline.open(progressive), this.backing.transformExecutor())
+                        .thenCompose(Function.identity())
+                : this.pipeline.open(progressive);
+
+        return update.thenCompose(pane -> {
+            this.pane = pane;
+            return MainThreadCommitQueue.of(this.plugin).submit(this, () -> {
+                this.inventory = this.createInventory();
+                this.viewer.open(this);
+                this.emitEvent();
+            });
+        }).thenApply(ignored -> this).whenComplete((view, throwable) -> {
+            if (throwable != null) {
+                this.plugin.getLogger().warning("Failed to open interface: " + throwable.getMessage());
+            }
+        });
     }
 
     @Override
@@ -360,19 +326,14 @@ public final class ChestView implements
                 this.title
         );
 
-        final @NonNull Map<Vector2, ItemStackElement<ChestPane>> elements = this.pane.chestElements();
-
-        for (int x = 0; x < ChestPane.MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = 0; y < this.backing.rows(); y++) {
-                Vector2 position = Vector2.at(x, y);
-                int slot = PaperUtils.gridToSlot(position);
-                ItemStackElement<ChestPane> element = elements.get(position);
+        final ChestPane pane = this.mergePanes();
+        this.pane = pane;
 
-                this.current.put(slot, element);
-                inventory.setItem(slot, element.itemStack());
-            }
+        for (int slot = 0; slot < pane.size(); slot++) {
+            inventory.setItem(slot, pane.element(slot).itemStack());
         }
 
+        this.applied = pane;
         return inventory;
     }
 
@@ -382,36 +343,46 @@ public final class ChestView implements
     }
 
     private @NonNull ChestPane mergePanes() {
-        ItemStackElement<ChestPane> empty = ItemStackElement.empty();
-        ChestPane finalPane = new ChestPane(this.backing.rows());
+        return this.compositor.pane();
+    }
+
+    @Override
+    public void addTask(final @NonNull Plugin plugin, final @NonNull Runnable runnable, final int delay) {
+        NestedTask.schedule(this.tasks, InterfacesScheduler.of(plugin), this.viewer.player(), runnable, delay);
+    }
 
-        this.panes.sort(Comparator.comparingInt(pane -> pane.context().priority()));
+    @Override
+    public Collection<InterfacesScheduler.Task> tasks() {
+        return this.tasks;
+    }
 
-        for (final var completedPane : List.copyOf(this.panes)) {
-            Map<Vector2, ItemStackElement<ChestPane>> elements = completedPane.pane().chestElements();
+    @Override
+    public void cancelRenders() {
+        this.pipeline.cancel();
+    }
 
-            for (Vector2 position : elements.keySet()) {
-                ItemStackElement<ChestPane> value = elements.get(position);
+    @Override
+    public int refreshInterval() {
+        return this.pipeline.refreshInterval();
+    }
 
-                if (!value.equals(empty)) {
-                    finalPane = finalPane.element(value, position.x(), position.y());
-                }
-            }
+    @Override
+    public void tickRefresh(final long elapsed) {
+        if (!this.viewer.player().isOnline()) {
+            return;
         }
 
-        return finalPane;
+        this.pipeline.tickRefresh(elapsed);
     }
 
     @Override
-    public void addTask(final @NonNull Plugin plugin, final @NonNull Runnable runnable, final int delay) {
-        BukkitRunnable bukkitRunnable = new BukkitNestedRunnable(this.tasks, runnable);
-        bukkitRunnable.runTaskLater(plugin, delay);
-        this.tasks.add(bukkitRunnable.getTaskId());
+    public @NonNull RenderPipeline<ChestPane, PlayerViewer> pipeline() {
+        return this.pipeline;
     }
 
     @Override
-    public Collection<Integer> taskIds() {
-        return this.tasks;
+    public @NonNull Collection<@NonNull Subscription> subscriptions() {
+        return this.subscriptions;
     }
 
 }
@@ -1,43 +1,47 @@
 package org.incendo.interfaces.paper.view;
 
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.InventoryView;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.Interface;
 import org.incendo.interfaces.core.arguments.InterfaceArguments;
-import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.pane.PaneCompositor;
+import org.incendo.interfaces.core.pane.PaneDiff;
 import org.incendo.interfaces.core.transform.InterfaceProperty;
 import org.incendo.interfaces.core.transform.InterruptUpdateException;
-import org.incendo.interfaces.core.util.Vector2;
+import org.incendo.interfaces.core.transform.PropertyBatch;
+import org.incendo.interfaces.core.transform.Subscription;
 import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.core.view.RenderPipeline;
+import org.incendo.interfaces.core.view.RenderedView;
 import org.incendo.interfaces.core.view.SelfUpdatingInterfaceView;
 import org.incendo.interfaces.paper.PaperInterfaceListeners;
 import org.incendo.interfaces.paper.PlayerViewer;
 import org.incendo.interfaces.paper.element.ItemStackElement;
 import org.incendo.interfaces.paper.pane.ChestPane;
 import org.incendo.interfaces.paper.pane.CombinedPane;
+import org.incendo.interfaces.paper.scheduler.InterfacesScheduler;
+import org.incendo.interfaces.paper.scheduler.MainThreadCommitQueue;
 import org.incendo.interfaces.paper.type.ChildTitledInterface;
 import org.incendo.interfaces.paper.type.CombinedInterface;
 import org.incendo.interfaces.paper.utils.InventoryFactory;
-import org.incendo.interfaces.paper.utils.PaperUtils;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * The view of a chest.
@@ -45,8 +49,13 @@ import java.util.Set;
 @SuppressWarnings("unused")
 public final class CombinedView implements
         PlayerView<CombinedPane>,
+        RenderedView<CombinedPane, PlayerViewer>,
         TaskableView,
         SelfUpdatingInterfaceView,
+        SubscribedView,
+        CancellableView,
+        RefreshableView,
+        PropertyBatch.Receiver,
         ChildView {
 
     private final @NonNull PlayerViewer viewer;
@@ -57,9 +66,12 @@ public final class CombinedView implements
     private @NonNull Inventory inventory;
     private @NonNull CombinedPane pane;
 
-    private final @NonNull Map<Vector2, Element> current = new HashMap<>();
-    private @NonNull List<ContextCompletedPane<CombinedPane>> panes = new ArrayList<>();
-    private final Set<Integer> tasks = new HashSet<>();
+    private @Nullable CombinedPane appliedChest;
+    private @Nullable CombinedPane appliedPlayer;
+    private final @NonNull PaneCompositor<CombinedPane, ItemStackElement<CombinedPane>> compositor;
+    private final @NonNull RenderPipeline<CombinedPane, PlayerViewer> pipeline;
+    private final Set<InterfacesScheduler.Task> tasks = ConcurrentHashMap.newKeySet();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
 
     private final Plugin plugin;
 
@@ -101,78 +113,53 @@ public final class CombinedView implements
         this.backing = backing;
         this.arguments = arguments;
         this.title = title;
-
-        try {
-            this.pane = this.updatePane(true);
-        } catch (final InterruptUpdateException ignored) {
-            this.pane = new CombinedPane(this.backing.totalRows());
-        }
-
         this.plugin = Objects.requireNonNullElseGet(
                 PaperInterfaceListeners.plugin(),
                 () -> JavaPlugin.getProvidingPlugin(this.getClass())
         );
-
-        if (Bukkit.isPrimaryThread()) {
-            this.inventory = this.createInventory();
-            this.reapplyInventory(true);
-        } else {
-            try {
-                Bukkit.getScheduler().callSyncMethod(this.plugin, () -> {
-                    this.inventory = this.createInventory();
-                    this.reapplyInventory(true);
-
-                    return null;
-                }).get();
-            } catch (final Exception e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
-
-    private @NonNull CombinedPane updatePane(final boolean firstApply) {
-        for (final var transform : this.backing.transformations()) {
-            CombinedPane newPane = transform.transform().apply(new CombinedPane(this.backing.totalRows()), this);
-            // If it's the first time we apply the transform, then
-            // we add update listeners to all the dependent properties
-            if (firstApply) {
-                for (final InterfaceProperty<?> property : transform.properties()) {
-                    property.addListener(this, (reference, oldValue, newValue) -> reference.updateByProperty(property));
+        this.pane = new CombinedPane(this.backing.totalRows());
+        this.compositor = new PaneCompositor<>(this.pane, ItemStackElement.empty()::equals);
+        // Asynchronous transforms are applied on the update executor of the interface.
+        this.pipeline = new RenderPipeline<>(
+                this,
+                this.compositor,
+                runnable -> this.backing.updateExecutor().execute(this.plugin, runnable),
+                new RenderPipeline.Target() {
+                    @Override
+                    public @NonNull CompletableFuture<?> commit() {
+                        return CombinedView.this.reApplySync();
+                    }
+
+                    @Override
+                    public void failed(final @NonNull String message, final @NonNull Throwable throwable) {
+                        CombinedView.this.plugin.getLogger().warning(message + ": " + throwable.getMessage());
+                    }
                 }
-            }
-
-            this.panes.removeIf(completedPane -> completedPane.context().equals(transform));
-            this.panes.add(new ContextCompletedPane<>(transform, newPane));
-        }
-
-        return this.mergePanes();
+        );
     }
 
-    private @NonNull CombinedPane updatePaneByProperty(final @NonNull InterfaceProperty<?> interfaceProperty) {
-        List<ContextCompletedPane<CombinedPane>> updatedPanes = new ArrayList<>(this.panes);
+    private void subscribe() {
+        // The subscriptions are closed when the view is closed, and renewed when it is opened again
+        if (!this.subscriptions.isEmpty()) {
+            return;
+        }
 
         for (final var transform : this.backing.transformations()) {
-            if (!transform.properties().contains(interfaceProperty)) {
-                continue;
+            for (final InterfaceProperty<?> property : transform.properties()) {
+                this.subscriptions.add(
+                        property.addListener(this, (reference, oldValue, newValue) -> reference.updateByProperties(Set.of(property)))
+                );
             }
-
-            CombinedPane newPane = transform.transform().apply(new CombinedPane(this.backing.totalRows()), this);
-
-            updatedPanes.removeIf(completedPane -> completedPane.context().equals(transform));
-            updatedPanes.add(new ContextCompletedPane<>(transform, newPane));
         }
+    }
 
-        this.panes = updatedPanes;
-        return this.mergePanes();
+    @Override
+    public void propertiesChanged(final @NonNull Set<@NonNull InterfaceProperty<?>> properties) {
+        this.updateByProperties(properties);
     }
 
-    private void updateByProperty(final @NonNull InterfaceProperty<?> interfaceProperty) {
-        try {
-            this.pane = this.updatePaneByProperty(interfaceProperty);
-        } catch (final InterruptUpdateException ignored) {
-            return;
-        }
-        this.reApplySync();
+    private void updateByProperties(final @NonNull Set<@NonNull InterfaceProperty<?>> interfaceProperties) {
+        this.pipeline.refresh(interfaceProperties);
     }
 
     private void reapplyInventory(final boolean firstOpen) {
@@ -181,25 +168,17 @@ public final class CombinedView implements
             return;
         }
 
-        Map<Vector2, ItemStackElement<CombinedPane>> elements = this.pane.inventoryElements();
-
-        for (int x = 0; x < ChestPane.MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = 0; y < this.backing.chestRows(); y++) {
-                Vector2 position = Vector2.at(x, y);
-                int slot = PaperUtils.gridToSlot(position);
-
-                Element currentElement = this.current.get(position);
-                ItemStackElement<CombinedPane> element = elements.get(position);
+        // Commit the latest merged pane, which includes layers that have arrived after the render.
+        final CombinedPane pane = this.mergePanes();
+        this.pane = pane;
+        final int chestSlots = this.backing.chestRows() * ChestPane.MINECRAFT_CHEST_WIDTH;
+        final BitSet changed = PaneDiff.diff(this.appliedChest, pane, 0, chestSlots);
 
-                if (element.equals(currentElement)) {
-                    continue;
-                }
-
-                this.current.put(position, element);
-                this.inventory.setItem(slot, element.itemStack());
-            }
+        for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+            this.inventory.setItem(slot, pane.element(slot).itemStack());
         }
 
+        this.appliedChest = pane;
         this.reapplyPlayerInventory(firstOpen);
     }
 
@@ -220,39 +199,29 @@ public final class CombinedView implements
             return;
         }
 
-        Map<Vector2, ItemStackElement<CombinedPane>> elements = this.pane.inventoryElements();
         Inventory playerInventory = this.viewer.player().getOpenInventory().getBottomInventory();
 
-        for (int x = 0; x < ChestPane.MINECRAFT_CHEST_WIDTH; x++) {
-            for (int y = this.backing.chestRows(); y < this.backing.totalRows() - 1; y++) {
-                Vector2 position = Vector2.at(x, y);
-
-                int playerY = y - this.backing.chestRows() + 1;
-                int gridSlot = PaperUtils.gridToSlot(Vector2.at(x, playerY));
-
-                ItemStack currentItem = playerInventory.getItem(gridSlot);
-                ItemStackElement<CombinedPane> element = elements.get(position);
-
-                if (element.itemStack().equals(currentItem)) {
-                    continue;
-                }
-
-                playerInventory.setItem(gridSlot, element.itemStack());
-            }
+        // The player inventory is cleared whenever the view is closed, so it is rewritten when (re)opened.
+        if (firstOpen) {
+            this.appliedPlayer = null;
         }
 
-        ItemStackElement<CombinedPane>[] hotbar = this.pane.hotbarElements();
+        // The player inventory rows follow the chest rows, and map onto the main player inventory.
+        // The hotbar is stored after the grid, and maps onto the first row of the player inventory.
+        final CombinedPane pane = this.pane;
+        final int chestSlots = this.backing.chestRows() * ChestPane.MINECRAFT_CHEST_WIDTH;
+        final int hotbarSlots = pane.hotbarSlot(0);
+        final BitSet changed = PaneDiff.diff(this.appliedPlayer, pane, chestSlots, pane.size());
 
-        for (int x = 0; x < hotbar.length; x++) {
-            ItemStack currentElement = playerInventory.getItem(x);
-            ItemStackElement<CombinedPane> element = hotbar[x];
+        for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+            final int playerSlot = slot < hotbarSlots
+                    ? slot - chestSlots + ChestPane.MINECRAFT_CHEST_WIDTH
+                    : slot - hotbarSlots;
 
-            if (element.itemStack().equals(currentElement)) {
-                continue;
-            }
-
-            playerInventory.setItem(x, hotbar[x].itemStack());
+            playerInventory.setItem(playerSlot, pane.element(slot).itemStack());
         }
+
+        this.appliedPlayer = pane;
     }
 
     @Override
@@ -296,33 +265,12 @@ public final class CombinedView implements
             return;
         }
 
-        this.backing.updateExecutor().execute(this.plugin, this::actuallyUpdate);
-    }
-
-    private void actuallyUpdate() {
-        try {
-            this.pane = this.updatePane(false);
-        } catch (final InterruptUpdateException ignored) {
-            return;
-        }
-
-        this.reApplySync();
+        // Full updates run on the update executor, property updates on the thread that changed the property.
+        this.backing.updateExecutor().execute(this.plugin, this.pipeline::update);
     }
 
-    private void reApplySync() {
-        if (Bukkit.isPrimaryThread()) {
-            this.reapplyInventory(false);
-        } else {
-            try {
-                Bukkit.getScheduler().callSyncMethod(this.plugin, () -> {
-                    this.reapplyInventory(false);
-
-                    return null;
-                }).get();
-            } catch (final Exception e) {
-                throw new RuntimeException(e);
-            }
-        }
+    private @NonNull CompletableFuture<Void> reApplySync() {
+        return MainThreadCommitQueue.of(this.plugin).submit(this, () -> this.reapplyInventory(false));
     }
 
     /**
@@ -363,9 +311,69 @@ public final class CombinedView implements
 
     @Override
     public void open() {
-        this.viewer.open(this);
-        this.reapplyPlayerInventory(true);
-        this.emitEvent();
+        this.open(Runnable::run);
+    }
+
+    /**
+     * Opens the view without blocking the calling thread.
+     * <p>
+     * Every transform, including synchronous transforms, is applied on the update executor of the
+     * interface, and only the creation of the inventory is run on the main thread.
+     *
+     * @return a future completed with this view once it has been opened
+     */
+    public @NonNull CompletableFuture<CombinedView> openAsync() {
+        return this.open(runnable -> this.backing.updateExecutor().execute(this.plugin, runnable));
+    }
+
+    /**
+     * Opens the view without blocking the calling thread, applying the transforms on the given executor.
+     * <p>
+     * Asynchronous transforms are applied on the update executor of the interface, and only the creation
+     * of the inventory is run on the main thread.
+     *
+     * @param executor the executor to apply the transforms on
+     * @return a future completed with this view once it has been opened
+     */
+    public @NonNull CompletableFuture<CombinedView> openAsync(final @NonNull Executor executor) {
+        return this.open(executor);
+    }
+
+    private @NonNull CompletableFuture<CombinedView> open(final @NonNull Executor executor) {
+        this.subscribe();
+
+        return CompletableFuture.supplyAsync(() -> this.pipeline.open(false), executor)
+                .thenCompose(Function.identity())
+                .exceptionally(this::interrupted)
+                .thenCompose(pane -> {
+                    this.pane = pane;
+                    return MainThreadCommitQueue.of(this.plugin).submit(this, () -> {
+                        this.inventory = this.createInventory();
+                        this.appliedChest = null;
+                        this.viewer.open(this);
+                        this.reapplyInventory(true);
+                        this.emitEvent();
+                    });
+                }).thenApply(ignored -> this).whenComplete((view, throwable) -> {
+                    if (throwable != null) {
+                        this.plugin.getLogger().warning("Failed to open interface: " + throwable.getMessage());
+                    }
+                });
+    }
+
+    private @NonNull CombinedPane interrupted(final @NonNull Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+        if (cause instanceof InterruptUpdateException) {
+            // The view is opened without any of its transforms.
+            return new CombinedPane(this.backing.totalRows());
+        }
+
+        throw throwable instanceof CompletionException
+                ? (CompletionException) throwable
+                : new CompletionException(throwable);
     }
 
     @Override
@@ -398,48 +406,46 @@ public final class CombinedView implements
     }
 
     private @NonNull CombinedPane mergePanes() {
-        ItemStackElement<CombinedPane> empty = ItemStackElement.empty();
-        CombinedPane finalPane = new CombinedPane(this.backing.totalRows());
-
-        List<ContextCompletedPane<CombinedPane>> completedPanes = new ArrayList<>(this.panes);
-
-        completedPanes.sort(Comparator.comparingInt(pane -> pane.context().priority()));
-
-        for (final var completedPane : completedPanes) {
-            Map<Vector2, ItemStackElement<CombinedPane>> elements = completedPane.pane().inventoryElements();
+        return this.compositor.pane();
+    }
 
-            for (Vector2 position : elements.keySet()) {
-                ItemStackElement<CombinedPane> value = elements.get(position);
+    @Override
+    public void addTask(final @NonNull Plugin plugin, final @NonNull Runnable runnable, final int delay) {
+        NestedTask.schedule(this.tasks, InterfacesScheduler.of(plugin), this.viewer.player(), runnable, delay);
+    }
 
-                if (!value.equals(empty)) {
-                    finalPane = finalPane.element(value, position.x(), position.y());
-                }
-            }
+    @Override
+    public Collection<InterfacesScheduler.Task> tasks() {
+        return this.tasks;
+    }
 
-            ItemStackElement<CombinedPane>[] hotbar = completedPane.pane().hotbarElements();
+    @Override
+    public void cancelRenders() {
+        this.pipeline.cancel();
+    }
 
-            for (int x = 0; x < hotbar.length; x++) {
-                ItemStackElement<CombinedPane> value = hotbar[x];
+    @Override
+    public int refreshInterval() {
+        return this.pipeline.refreshInterval();
+    }
 
-                if (!value.equals(empty)) {
-                    finalPane = finalPane.hotbar(value, x);
-                }
-            }
+    @Override
+    public void tickRefresh(final long elapsed) {
+        if (!this.viewer.player().isOnline()) {
+            return;
         }
 
-        return finalPane;
+        this.pipeline.tickRefresh(elapsed);
     }
 
     @Override
-    public void addTask(final @NonNull Plugin plugin, final @NonNull Runnable runnable, final int delay) {
-        BukkitRunnable bukkitRunnable = new BukkitNestedRunnable(this.tasks, runnable);
-        bukkitRunnable.runTaskLater(plugin, delay);
-        this.tasks.add(bukkitRunnable.getTaskId());
+    public @NonNull RenderPipeline<CombinedPane, PlayerViewer> pipeline() {
+        return this.pipeline;
     }
 
     @Override
-    public Collection<Integer> taskIds() {
-        return this.tasks;
+    public @NonNull Collection<@NonNull Subscription> subscriptions() {
+        return this.subscriptions;
     }
 
 }
@@ -0,0 +1,44 @@
+package org.incendo.interfaces.paper.view;
+
+import org.bukkit.entity.Player;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.interfaces.paper.scheduler.InterfacesScheduler;
+
+import java.util.Set;
+
+final class NestedTask implements Runnable {
+
+    private final Set<InterfacesScheduler.Task> tasks;
+    private final Runnable runnable;
+    private volatile InterfacesScheduler.@Nullable Task task;
+
+    private NestedTask(
+            final @NonNull Set<InterfacesScheduler.Task> tasks,
+            final @NonNull Runnable runnable
+    ) {
+        this.tasks = tasks;
+        this.runnable = runnable;
+    }
+
+    static void schedule(
+            final @NonNull Set<InterfacesScheduler.Task> tasks,
+            final @NonNull InterfacesScheduler scheduler,
+            final @NonNull Player player,
+            final @NonNull Runnable runnable,
+            final int delay
+    ) {
+        final NestedTask nestedTask = new NestedTask(tasks, runnable);
+        final InterfacesScheduler.Task task = scheduler.runLater(player, nestedTask, delay);
+
+        nestedTask.task = task;
+        tasks.add(task);
+    }
+
+    @Override
+    public void run() {
+        this.runnable.run();
+        this.tasks.remove(this.task);
+    }
+
+}
@@ -11,30 +11,47 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.interfaces.core.Interface;
 import org.incendo.interfaces.core.arguments.InterfaceArguments;
-import org.incendo.interfaces.core.element.Element;
+import org.incendo.interfaces.core.pane.PaneDiff;
 import org.incendo.interfaces.core.transform.InterfaceProperty;
 import org.incendo.interfaces.core.transform.InterruptUpdateException;
+import org.incendo.interfaces.core.transform.PropertyBatch;
+import org.incendo.interfaces.core.transform.Subscription;
+import org.incendo.interfaces.core.transform.TransformContext;
+import org.incendo.interfaces.core.transform.TransformMemo;
 import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.core.view.RenderMailbox;
 import org.incendo.interfaces.core.view.SelfUpdatingInterfaceView;
 import org.incendo.interfaces.paper.PaperInterfaceListeners;
 import org.incendo.interfaces.paper.PlayerViewer;
-import org.incendo.interfaces.paper.element.ItemStackElement;
 import org.incendo.interfaces.paper.pane.PlayerPane;
+import org.incendo.interfaces.paper.scheduler.MainThreadCommitQueue;
 import org.incendo.interfaces.paper.type.ChildTitledInterface;
 import org.incendo.interfaces.paper.type.PlayerInterface;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.WeakHashMap;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The view of the inventory of a player.
+ * <p>
+ * Unlike chest views, this view is not rendered by a {@link org.incendo.interfaces.core.view.RenderPipeline}:
+ * every transform is applied to the pane returned by the previous transform, so the transforms cannot be
+ * re-applied on their own, and every transform is re-applied once any of them is stale.
+ */
 public final class PlayerInventoryView implements
         PlayerView<PlayerPane>,
-        SelfUpdatingInterfaceView {
+        SelfUpdatingInterfaceView,
+        SubscribedView,
+        PropertyBatch.Receiver {
 
     private static final Map<Player, PlayerInventoryView> INVENTORY_VIEW_MAP = new WeakHashMap<>();
 
@@ -47,7 +64,10 @@ public final class PlayerInventoryView implements
 
     private boolean viewing = true;
 
-    private final @NonNull Map<Integer, Element> current = new HashMap<>();
+    private @Nullable PlayerPane applied;
+    private final @NonNull TransformMemo<PlayerPane, PlayerViewer> memo = new TransformMemo<>();
+    private final @NonNull RenderMailbox mailbox = new RenderMailbox(this::render);
+    private final @NonNull List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
 
     private final Plugin plugin;
 
@@ -79,6 +99,8 @@ public final class PlayerInventoryView implements
         this.arguments = argument;
         this.inventory = viewer.player().getInventory();
 
+        this.subscribe();
+
         try {
             this.pane = this.updatePane(true);
         } catch (final InterruptUpdateException ignored) {
@@ -120,19 +142,41 @@ public final class PlayerInventoryView implements
         INVENTORY_VIEW_MAP.remove(player);
     }
 
+    private void subscribe() {
+        // The subscriptions are closed when the view is closed, and renewed when it is opened again
+        if (!this.subscriptions.isEmpty()) {
+            return;
+        }
+
+        for (final var transform : this.backing.transformations()) {
+            for (final InterfaceProperty<?> property : transform.properties()) {
+                this.subscriptions.add(
+                        property.addListener(this, (reference, oldValue, newValue) -> reference.update())
+                );
+            }
+        }
+    }
+
     private @NonNull PlayerPane updatePane(final boolean firstApply) {
+        final var transforms = this.backing.transformations();
+
+        // Every transform is applied on top of the previous one, so they are all re-applied if any of them is stale
+        if (!firstApply && transforms.stream().noneMatch(this.memo::stale)) {
+            return this.pane;
+        }
+
         @NonNull PlayerPane pane = new PlayerPane();
+        final long[][] versions = new long[transforms.size()][];
 
-        for (final var transform : this.backing.transformations()) {
+        for (int i = 0; i < transforms.size(); i++) {
+            final var transform = transforms.get(i);
+
+            versions[i] = this.memo.versions(transform);
             pane = transform.transform().apply(pane, this);
+        }
 
-            // If it's the first time we apply the transform, then
-            // we add update listeners to all the dependent properties
-            if (firstApply) {
-                for (final InterfaceProperty<?> property : transform.properties()) {
-                    property.addListener(this, (reference, oldValue, newValue) -> reference.update());
-                }
-            }
+        for (int i = 0; i < transforms.size(); i++) {
+            this.memo.applied(transforms.get(i), versions[i]);
         }
 
         return pane;
@@ -167,7 +211,8 @@ public final class PlayerInventoryView implements
     @Override
     public void open() {
         this.viewing = true;
-        this.current.clear();
+        this.applied = null;
+        this.subscribe();
         this.update();
         this.emitEvent();
     }
@@ -194,55 +239,61 @@ public final class PlayerInventoryView implements
             return;
         }
 
-        this.backing.updateExecutor().execute(this.plugin, this::actuallyUpdate);
+        this.mailbox.request();
     }
 
-    private void actuallyUpdate() {
-        try {
-            this.pane = this.updatePane(false);
-        } catch (final InterruptUpdateException ignored) {
-            return;
-        }
+    private @NonNull CompletableFuture<?> render(
+            final boolean full,
+            final @NonNull Set<@NonNull InterfaceProperty<?>> interfaceProperties,
+            final @NonNull Set<@NonNull TransformContext<?, ?>> refreshed
+    ) {
+        // Every transform is re-applied if any of them is stale, so every render is a full render.
+        final CompletableFuture<Void> rendered = new CompletableFuture<>();
 
-        if (Bukkit.isPrimaryThread()) {
-            this.reapplyInventory();
-        } else {
+        this.backing.updateExecutor().execute(this.plugin, () -> {
             try {
-                Bukkit.getScheduler().callSyncMethod(this.plugin, () -> {
-                    this.reapplyInventory();
-
-                    return null;
-                }).get();
-            } catch (final Exception e) {
-                throw new RuntimeException(e);
+                this.pane = this.updatePane(false);
+            } catch (final InterruptUpdateException ignored) {
+                rendered.complete(null);
+                return;
+            } catch (final RuntimeException e) {
+                rendered.completeExceptionally(e);
+                throw e;
             }
-        }
-    }
 
-    private void reapplyInventory() {
-        final @NonNull List<ItemStackElement<PlayerPane>> elements = this.pane.inventoryElements();
-
-        boolean changed = false;
-
-        for (int i = 0; i < elements.size(); i++) {
-            final @Nullable Element currentElement = this.current.get(i);
-            final @NonNull ItemStackElement<PlayerPane> element = elements.get(i);
+            MainThreadCommitQueue.of(this.plugin)
+                    .submit(this, this::reapplyInventory)
+                    .whenComplete((result, throwable) -> rendered.complete(null));
+        });
 
-            if (element.equals(currentElement)) {
-                continue;
-            }
+        return rendered;
+    }
 
-            this.current.put(i, element);
-            this.inventory.setItem(i, element.itemStack());
+    private void reapplyInventory() {
+        final PlayerPane pane = this.pane;
+        final BitSet changed = PaneDiff.diff(this.applied, pane);
 
-            changed = true;
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            this.inventory.setItem(i, pane.element(i).itemStack());
         }
 
-        if (changed && this.viewer.player().getOpenInventory().getTopInventory().getType() == InventoryType.CRAFTING) {
+        this.applied = pane;
+
+        if (!changed.isEmpty() && this.viewer.player().getOpenInventory().getTopInventory().getType() == InventoryType.CRAFTING) {
             this.viewer.player().updateInventory();
         }
     }
 
+    @Override
+    public void propertiesChanged(final @NonNull Set<@NonNull InterfaceProperty<?>> properties) {
+        this.update();
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Subscription> subscriptions() {
+        return this.subscriptions;
+    }
+
     @Override
     public @NotNull PlayerInventory getInventory() {
         return this.inventory;
@@ -0,0 +1,24 @@
+package org.incendo.interfaces.paper.view;
+
+/**
+ * Represents an interface view with transforms that are refreshed on their own schedule.
+ *
+ * @see org.incendo.interfaces.core.transform.Transform#refreshInterval()
+ */
+public interface RefreshableView {
+
+    /**
+     * Returns the amount of ticks between calls to {@link #tickRefresh(long)}.
+     *
+     * @return the amount of ticks, or {@code 0} if the view has no transforms to refresh
+     */
+    int refreshInterval();
+
+    /**
+     * Refreshes the transforms that are due.
+     *
+     * @param elapsed the amount of ticks since the refreshes of the view were scheduled
+     */
+    void tickRefresh(long elapsed);
+
+}
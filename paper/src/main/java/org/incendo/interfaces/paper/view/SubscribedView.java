@@ -0,0 +1,21 @@
+package org.incendo.interfaces.paper.view;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.transform.Subscription;
+
+import java.util.Collection;
+
+/**
+ * Represents an interface view that listens to the properties of its transforms.
+ * The subscriptions are closed when the view is closed, and renewed when the view is opened again.
+ */
+public interface SubscribedView {
+
+    /**
+     * Retrieve all property subscriptions
+     *
+     * @return collection of subscriptions held by the view
+     */
+    @NonNull Collection<@NonNull Subscription> subscriptions();
+
+}
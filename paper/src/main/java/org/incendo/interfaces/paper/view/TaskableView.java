@@ -2,8 +2,11 @@ package org.incendo.interfaces.paper.view;
 
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.paper.scheduler.InterfacesScheduler;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 /**
  * Represents an interface view that is able to schedule and execute tasks.
@@ -13,6 +16,8 @@ public interface TaskableView {
 
     /**
      * Add a task to the view
+     * <p>
+     * The task is run on the thread owning the viewer, through the {@link InterfacesScheduler} of the plugin.
      *
      * @param plugin the plugin instance to register against
      * @param runnable the runnable to execute
@@ -22,9 +27,31 @@ public interface TaskableView {
 
     /**
      * Retrieve all scheduled tasks
+     * <p>
+     * By default, a view has no tasks other than the ones it identifies by {@link #taskIds() id}.
      *
-     * @return collection of bukkit tasks that have been scheduled
+     * @return collection of tasks that have been scheduled
      */
-    Collection<Integer> taskIds();
+    default Collection<InterfacesScheduler.Task> tasks() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Retrieve the ids of all scheduled tasks
+     * <p>
+     * Only tasks scheduled through the Bukkit scheduler have an id, so tasks scheduled on region threaded
+     * servers are not included. Views overriding this method instead of {@link #tasks()} have their tasks
+     * cancelled through the Bukkit scheduler.
+     *
+     * @return collection of bukkit task ids of the tasks that have been scheduled
+     * @deprecated tasks are not identified by id on every server, use {@link #tasks()} instead
+     */
+    @Deprecated
+    default Collection<Integer> taskIds() {
+        return this.tasks().stream()
+                .map(InterfacesScheduler.Task::id)
+                .filter(id -> id >= 0)
+                .collect(Collectors.toList());
+    }
 
 }
@@ -0,0 +1,116 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.core.Interface;
+import org.incendo.interfaces.core.arguments.HashMapInterfaceArguments;
+import org.incendo.interfaces.core.arguments.InterfaceArguments;
+import org.incendo.interfaces.core.pane.Pane;
+import org.incendo.interfaces.core.view.InterfaceView;
+import org.incendo.interfaces.core.view.InterfaceViewer;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A view counting its updates, whose pane never changes.
+ */
+final class CountingView implements InterfaceView<Pane, InterfaceViewer> {
+
+    private final @NonNull Pane pane = List::of;
+    private final @NonNull InterfaceViewer viewer = new InterfaceViewer() {
+        @Override
+        public void open(final @NonNull InterfaceView<?, ?> pane) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+    private final Interface<Pane, InterfaceViewer> backing;
+    private final @NonNull AtomicInteger updates = new AtomicInteger();
+    private final @NonNull Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private volatile boolean failing;
+
+    CountingView() {
+        this(null);
+    }
+
+    CountingView(final Interface<Pane, InterfaceViewer> backing) {
+        this.backing = backing;
+    }
+
+    @SuppressWarnings("unchecked")
+    static @NonNull Interface<Pane, InterfaceViewer> newBacking() {
+        return (Interface<Pane, InterfaceViewer>) Proxy.newProxyInstance(
+                Interface.class.getClassLoader(),
+                new Class<?>[]{Interface.class},
+                (proxy, method, arguments) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == arguments[0];
+                        case "toString":
+                            return "backing";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+        );
+    }
+
+    int updates() {
+        return this.updates.get();
+    }
+
+    @NonNull Set<Thread> threads() {
+        return this.threads;
+    }
+
+    void fail() {
+        this.failing = true;
+    }
+
+    @Override
+    public void update() {
+        this.updates.incrementAndGet();
+        this.threads.add(Thread.currentThread());
+
+        if (this.failing) {
+            throw new IllegalStateException("The update failed on purpose.");
+        }
+    }
+
+    @Override
+    public Interface<Pane, InterfaceViewer> backing() {
+        return this.backing;
+    }
+
+    @Override
+    public @NonNull InterfaceArguments arguments() {
+        return HashMapInterfaceArguments.empty();
+    }
+
+    @Override
+    public @NonNull InterfaceViewer viewer() {
+        return this.viewer;
+    }
+
+    @Override
+    public boolean viewing() {
+        return true;
+    }
+
+    @Override
+    public @NonNull Pane pane() {
+        return this.pane;
+    }
+
+    @Override
+    public void open() {
+    }
+
+}
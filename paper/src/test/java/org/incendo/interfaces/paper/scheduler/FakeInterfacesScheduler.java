@@ -0,0 +1,173 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.entity.Player;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A scheduler driven by the tests, with a single main thread.
+ * <p>
+ * The thread constructing the scheduler is its main thread, and tasks scheduled on the main thread only
+ * run when the test {@link #tick() ticks} the scheduler. Asynchronous tasks only run when the test
+ * {@link #runAsyncTasks() runs them}, on a separate thread.
+ */
+public final class FakeInterfacesScheduler implements InterfacesScheduler {
+
+    private final @NonNull Thread mainThread = Thread.currentThread();
+    private final @NonNull AtomicInteger ids = new AtomicInteger();
+    private final @NonNull List<FakeTask> tasks = new ArrayList<>();
+    private final @NonNull Queue<FakeTask> submitted = new ConcurrentLinkedQueue<>();
+    private final @NonNull Queue<FakeTask> async = new ConcurrentLinkedQueue<>();
+
+    private long tick;
+
+    /**
+     * Runs every task due in the next tick on the calling thread, which must be the main thread.
+     */
+    public void tick() {
+        if (!this.owns(null)) {
+            throw new IllegalStateException("The scheduler must be ticked from its main thread.");
+        }
+
+        this.tick++;
+
+        for (FakeTask task = this.submitted.poll(); task != null; task = this.submitted.poll()) {
+            task.due = this.tick + task.due;
+            this.tasks.add(task);
+        }
+
+        for (final FakeTask task : List.copyOf(this.tasks)) {
+            if (task.cancelled) {
+                this.tasks.remove(task);
+            } else if (task.due <= this.tick) {
+                task.runnable.run();
+
+                if (task.period > 0) {
+                    task.due = this.tick + task.period;
+                } else {
+                    this.tasks.remove(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the given amount of ticks.
+     *
+     * @param ticks the amount of ticks
+     */
+    public void tick(final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            this.tick();
+        }
+    }
+
+    /**
+     * Returns the amount of asynchronous tasks waiting to be run.
+     *
+     * @return the amount of tasks
+     */
+    public int pendingAsync() {
+        return this.async.size();
+    }
+
+    /**
+     * Runs the waiting asynchronous tasks on a separate thread, and waits for them to complete.
+     */
+    public void runAsyncTasks() {
+        final Thread worker = new Thread(() -> {
+            for (FakeTask task = this.async.poll(); task != null; task = this.async.poll()) {
+                if (!task.cancelled) {
+                    task.runnable.run();
+                }
+            }
+        }, "fake-async");
+
+        worker.start();
+        try {
+            worker.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean regionThreaded() {
+        return false;
+    }
+
+    @Override
+    public boolean owns(final @Nullable Player player) {
+        return Thread.currentThread() == this.mainThread;
+    }
+
+    @Override
+    public @NonNull Task run(final @Nullable Player player, final @NonNull Runnable task) {
+        return this.runRepeating(player, task, 0L, 0L);
+    }
+
+    @Override
+    public @NonNull Task runLater(final @Nullable Player player, final @NonNull Runnable task, final long delay) {
+        return this.runRepeating(player, task, delay, 0L);
+    }
+
+    @Override
+    public @NonNull Task runRepeating(
+            final @Nullable Player player,
+            final @NonNull Runnable task,
+            final long delay,
+            final long period
+    ) {
+        // The delay is relative until the task is picked up by the next tick.
+        final FakeTask scheduled = new FakeTask(this.ids.incrementAndGet(), task, Math.max(delay - 1, 0), period);
+        this.submitted.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public @NonNull Task runAsync(final @NonNull Runnable task) {
+        final FakeTask scheduled = new FakeTask(this.ids.incrementAndGet(), task, 0L, 0L);
+        this.async.add(scheduled);
+        return scheduled;
+    }
+
+    private static final class FakeTask implements Task {
+
+        private final int id;
+        private final @NonNull Runnable runnable;
+        private final long period;
+        private long due;
+        private volatile boolean cancelled;
+
+        private FakeTask(final int id, final @NonNull Runnable runnable, final long due, final long period) {
+            this.id = id;
+            this.runnable = runnable;
+            this.due = due;
+            this.period = period;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        @Override
+        public boolean cancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public int id() {
+            return this.id;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+/**
+ * Creates plugins for the tests.
+ */
+public final class FakePlugins {
+
+    private FakePlugins() {
+    }
+
+    /**
+     * Returns a new enabled plugin with the given scheduler.
+     *
+     * @param name      the name of the plugin
+     * @param scheduler the scheduler of the plugin
+     * @return the plugin
+     */
+    public static @NonNull Plugin create(final @NonNull String name, final @NonNull InterfacesScheduler scheduler) {
+        final Logger logger = Logger.getLogger(name);
+        final Plugin plugin = (Plugin) Proxy.newProxyInstance(
+                Plugin.class.getClassLoader(),
+                new Class<?>[]{Plugin.class},
+                (proxy, method, arguments) -> {
+                    switch (method.getName()) {
+                        case "getLogger":
+                            return logger;
+                        case "getName":
+                        case "toString":
+                            return name;
+                        case "isEnabled":
+                            return true;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == arguments[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+        );
+
+        InterfacesScheduler.register(plugin, scheduler);
+        return plugin;
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InterfaceUpdateSchedulerTest {
+
+    private FakeInterfacesScheduler scheduler;
+    private InterfaceUpdateScheduler updates;
+
+    @BeforeEach
+    void setUp() {
+        this.scheduler = new FakeInterfacesScheduler();
+        this.updates = new InterfaceUpdateScheduler(FakePlugins.create("updates", this.scheduler));
+    }
+
+    @Test
+    void dueViewsAreUpdatedOffTheMainThread() {
+        final CountingView view = new CountingView();
+        this.updates.scheduleRepeating(view, 2);
+
+        this.scheduler.tick(2);
+        assertEquals(0, view.updates());
+        assertEquals(1, this.scheduler.pendingAsync());
+
+        this.scheduler.runAsyncTasks();
+        assertEquals(1, view.updates());
+        assertFalse(view.threads().contains(Thread.currentThread()));
+    }
+
+    @Test
+    void dueViewsAreUpdatedByOneTaskPerTick() {
+        final CountingView first = new CountingView();
+        final CountingView second = new CountingView();
+        final CountingView failing = new CountingView();
+        failing.fail();
+        this.updates.scheduleRepeating(first, 2);
+        this.updates.scheduleRepeating(failing, 2);
+        this.updates.scheduleRepeating(second, 2);
+
+        this.scheduler.tick(2);
+        assertEquals(1, this.scheduler.pendingAsync());
+
+        // A failing view does not prevent the other views of the tick from being updated.
+        this.scheduler.runAsyncTasks();
+        assertEquals(1, first.updates());
+        assertEquals(1, failing.updates());
+        assertEquals(1, second.updates());
+    }
+
+    @Test
+    void repeatingViewsAreUpdatedEveryInterval() {
+        final CountingView view = new CountingView();
+        this.updates.scheduleRepeating(view, 3);
+
+        this.scheduler.tick(9);
+        this.scheduler.runAsyncTasks();
+
+        assertEquals(3, view.updates());
+    }
+
+    @Test
+    void viewsDueBeyondTheWheelWaitForTheirTick() {
+        final CountingView view = new CountingView();
+        this.updates.scheduleOnce(view, InterfaceUpdateScheduler.WHEEL_SIZE + 5);
+
+        this.scheduler.tick(InterfaceUpdateScheduler.WHEEL_SIZE + 4);
+        assertEquals(0, this.scheduler.pendingAsync());
+
+        this.scheduler.tick();
+        this.scheduler.runAsyncTasks();
+        assertEquals(1, view.updates());
+        assertFalse(this.updates.scheduled(view));
+    }
+
+    @Test
+    void cancelledViewsAreNotUpdated() {
+        final CountingView view = new CountingView();
+        this.updates.scheduleRepeating(view, 1);
+        this.updates.cancel(view);
+
+        this.scheduler.tick(4);
+
+        assertEquals(0, this.scheduler.pendingAsync());
+        assertFalse(this.updates.scheduled(view));
+    }
+
+    @Test
+    void idleViewsBackOffUntilActivity() {
+        final CountingView view = new CountingView();
+        this.updates.scheduleAdaptive(view, 1, 8);
+
+        // The first update has nothing to compare to, every later unchanged update doubles the interval.
+        this.scheduler.tick(1 + 1 + 2 + 4);
+        assertEquals(8, this.updates.interval(view));
+
+        this.updates.activity(view);
+        assertEquals(1, this.updates.interval(view));
+    }
+
+    @Test
+    void activeViewsDoNotBackOff() {
+        final CountingView view = new CountingView();
+        this.updates.scheduleAdaptive(view, 1, 8);
+
+        for (int i = 0; i < 5; i++) {
+            this.updates.activity(view);
+            this.scheduler.tick();
+        }
+        assertEquals(1, this.updates.interval(view));
+
+        // Activity is only counted for the update following it.
+        this.scheduler.tick(2);
+        assertEquals(2, this.updates.interval(view));
+    }
+
+    @Test
+    void pausedPrioritiesAreNotUpdated() {
+        final CountingView view = new CountingView();
+        this.updates.policy((priority, tps) -> 0);
+        this.updates.scheduleRepeating(view, 1);
+
+        this.scheduler.tick(5);
+
+        assertEquals(0, this.scheduler.pendingAsync());
+        assertTrue(this.updates.scheduled(view));
+    }
+
+}
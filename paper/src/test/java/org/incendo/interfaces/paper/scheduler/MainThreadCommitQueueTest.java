@@ -0,0 +1,161 @@
+package org.incendo.interfaces.paper.scheduler;
+
+import org.bukkit.plugin.Plugin;
+import org.incendo.interfaces.core.Interface;
+import org.incendo.interfaces.core.pane.Pane;
+import org.incendo.interfaces.core.view.InterfaceViewer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MainThreadCommitQueueTest {
+
+    private FakeInterfacesScheduler scheduler;
+    private Plugin plugin;
+    private MainThreadCommitQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        this.scheduler = new FakeInterfacesScheduler();
+        this.plugin = FakePlugins.create("commits", this.scheduler);
+        this.queue = MainThreadCommitQueue.of(this.plugin);
+    }
+
+    @Test
+    void mainThreadCommitsRunImmediately() {
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        final CompletableFuture<Void> future = this.queue.submit(() -> ran.set(true));
+
+        assertTrue(ran.get());
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    void offThreadCommitsWaitForTheNextTick() throws Exception {
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        CompletableFuture.runAsync(() -> this.queue.submit(() -> ran.set(true))).get(5, TimeUnit.SECONDS);
+        assertFalse(ran.get());
+        assertEquals(1, this.queue.pending());
+
+        this.scheduler.tick();
+        assertTrue(ran.get());
+        assertEquals(0, this.queue.pending());
+    }
+
+    @Test
+    void mainThreadCommitsAreDeferredOnceTheBudgetIsSpent() {
+        final AtomicBoolean ran = new AtomicBoolean();
+        this.queue.budget(Duration.ofMillis(1));
+
+        this.queue.submit(() -> sleep(2));
+        this.queue.submit(() -> ran.set(true));
+        assertFalse(ran.get());
+        assertEquals(1, this.queue.pending());
+
+        this.scheduler.tick();
+        assertTrue(ran.get());
+        assertEquals(0, this.queue.pending());
+    }
+
+    @Test
+    void viewersTakeTurnsOnceTheBudgetIsSpent() {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final CountingView first = new CountingView();
+        final CountingView second = new CountingView();
+        this.queue.budget(Duration.ZERO);
+
+        this.queue.submit(first, () -> order.add("a1"));
+        this.queue.submit(first, () -> order.add("a2"));
+        this.queue.submit(first, () -> order.add("a3"));
+        this.queue.submit(second, () -> order.add("b1"));
+
+        // At least one change is run every tick, regardless of the budget.
+        this.scheduler.tick(4);
+        assertEquals(List.of("a1", "b1", "a2", "a3"), order);
+    }
+
+    @Test
+    void changesSubmittedByARunningChangeOfTheViewerRunImmediately() {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final CountingView view = new CountingView();
+        this.queue.budget(Duration.ZERO);
+
+        this.queue.submit(view, () -> order.add("first"));
+        this.queue.submit(view, () -> {
+            order.add("open");
+            this.queue.submit(view, () -> order.add("inventory"));
+            order.add("opened");
+        });
+
+        this.scheduler.tick(2);
+        assertEquals(List.of("first", "open", "inventory", "opened"), order);
+        assertEquals(0, this.queue.pending());
+    }
+
+    @Test
+    void mainThreadCommitsDoNotOvertakeEarlierCommitsOfTheViewer() throws Exception {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final CountingView view = new CountingView();
+        final CountingView other = new CountingView();
+
+        CompletableFuture.runAsync(() -> this.queue.submit(view, () -> order.add("async"))).get(5, TimeUnit.SECONDS);
+        this.queue.submit(view, () -> order.add("main"));
+        this.queue.submit(other, () -> order.add("other"));
+        assertEquals(List.of("other"), order);
+        assertEquals(2, this.queue.pending());
+
+        this.scheduler.tick();
+        assertEquals(List.of("other", "async", "main"), order);
+        assertEquals(0, this.queue.pending());
+    }
+
+    @Test
+    void shutdownQueueIsForgottenAndStopsDraining() throws Exception {
+        final AtomicBoolean ran = new AtomicBoolean();
+        final CompletableFuture<Void> future = CompletableFuture
+                .supplyAsync(() -> this.queue.submit(() -> ran.set(true)))
+                .get(5, TimeUnit.SECONDS);
+
+        MainThreadCommitQueue.shutdown(this.plugin);
+        this.scheduler.tick();
+
+        assertFalse(ran.get());
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, this.queue.pending());
+        assertNotSame(this.queue, MainThreadCommitQueue.of(this.plugin));
+    }
+
+    @Test
+    void timeIsAccountedToTheInterface() {
+        final Interface<Pane, InterfaceViewer> backing = CountingView.newBacking();
+
+        this.queue.submit(new CountingView(backing), () -> { });
+        this.queue.submit(new CountingView(backing), () -> { });
+
+        assertNotNull(this.queue.usage(backing));
+        assertEquals(2, this.queue.usage(backing).commits());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.incendo.interfaces.paper.view;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.interfaces.paper.scheduler.FakeInterfacesScheduler;
+import org.incendo.interfaces.paper.scheduler.FakePlugins;
+import org.incendo.interfaces.paper.scheduler.InterfacesScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskableViewTest {
+
+    private final FakeInterfacesScheduler scheduler = new FakeInterfacesScheduler();
+    private final Plugin plugin = FakePlugins.create("tasks", this.scheduler);
+    private final TestTaskableView view = new TestTaskableView();
+
+    @Test
+    void taskRunsAfterItsDelayAndIsForgotten() {
+        final AtomicInteger runs = new AtomicInteger();
+
+        this.view.addTask(this.plugin, runs::incrementAndGet, 3);
+        assertEquals(1, this.view.tasks().size());
+
+        this.scheduler.tick(2);
+        assertEquals(0, runs.get());
+
+        this.scheduler.tick();
+        assertEquals(1, runs.get());
+        assertTrue(this.view.tasks().isEmpty());
+    }
+
+    @Test
+    void cancelledTaskDoesNotRun() {
+        final AtomicInteger runs = new AtomicInteger();
+
+        this.view.addTask(this.plugin, runs::incrementAndGet, 1);
+        this.view.tasks().forEach(InterfacesScheduler.Task::cancel);
+        this.scheduler.tick(2);
+
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void taskIdsAreMappedFromTasks() {
+        this.view.addTask(this.plugin, () -> { }, 5);
+        this.view.addTask(this.plugin, () -> { }, 5);
+
+        final Collection<Integer> expected = this.view.tasks().stream()
+                .map(InterfacesScheduler.Task::id)
+                .collect(Collectors.toSet());
+
+        assertEquals(2, expected.size());
+        assertEquals(expected, Set.copyOf(this.view.taskIds()));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void tasksWithoutIdAreLeftOut() {
+        final InterfacesScheduler.Task task = new InterfacesScheduler.Task() {
+            @Override
+            public void cancel() {
+            }
+
+            @Override
+            public boolean cancelled() {
+                return false;
+            }
+        };
+        this.view.tasks.add(task);
+
+        assertEquals(List.of(), List.copyOf(this.view.taskIds()));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void viewsIdentifyingTasksByIdHaveNoTasks() {
+        final TaskableView legacy = new TaskableView() {
+            @Override
+            public void addTask(final @NonNull Plugin plugin, final @NonNull Runnable runnable, final int delay) {
+            }
+
+            @Override
+            public Collection<Integer> taskIds() {
+                return List.of(7);
+            }
+        };
+
+        assertTrue(legacy.tasks().isEmpty());
+        assertEquals(List.of(7), List.copyOf(legacy.taskIds()));
+    }
+
+    /**
+     * A view that only schedules tasks.
+     */
+    private static final class TestTaskableView implements TaskableView {
+
+        private final Player player = (Player) Proxy.newProxyInstance(
+                Player.class.getClassLoader(),
+                new Class<?>[]{Player.class},
+                (proxy, method, arguments) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        private final Set<InterfacesScheduler.Task> tasks = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void addTask(final @NonNull Plugin plugin, final @NonNull Runnable runnable, final int delay) {
+            NestedTask.schedule(this.tasks, InterfacesScheduler.of(plugin), this.player, runnable, delay);
+        }
+
+        @Override
+        public Collection<InterfacesScheduler.Task> tasks() {
+            return this.tasks;
+        }
+
+    }
+
+}